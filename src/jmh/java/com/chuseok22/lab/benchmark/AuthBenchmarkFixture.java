@@ -0,0 +1,103 @@
+package com.chuseok22.lab.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.chuseok22.lab.domain.auth.service.CustomUserDetailsService;
+import com.chuseok22.lab.domain.auth.service.MemberDetailsCache;
+import com.chuseok22.lab.domain.auth.service.TokenRejectionMonitor;
+import com.chuseok22.lab.domain.auth.service.TokenRevocationService;
+import com.chuseok22.lab.domain.auth.vo.JwtClaimProfile;
+import com.chuseok22.lab.domain.member.domain.Member;
+import com.chuseok22.lab.domain.member.repository.MemberRepository;
+import com.chuseok22.lab.domain.member.vo.Role;
+import com.chuseok22.lab.global.config.JwtKeyRingProperties;
+import com.chuseok22.lab.global.util.JwtKeyRing;
+import com.chuseok22.lab.global.util.JwtUtil;
+import com.chuseok22.lab.global.util.LogThrottle;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 인증 경로 벤치마크 공통 구성 (DB, Redis 없이 실행)
+ */
+public final class AuthBenchmarkFixture {
+
+  public static final long ACCESS_TOKEN_EXP_TIME = 3_600_000L;
+  public static final long REFRESH_TOKEN_EXP_TIME = 86_400_000L;
+
+  private AuthBenchmarkFixture() {
+  }
+
+  public static Member member() {
+    return Member.builder()
+        .memberId(UUID.randomUUID())
+        .username("benchmarkUser")
+        .password("encodedPassword")
+        .nickname("benchmarkNickname")
+        .role(Role.ROLE_USER)
+        .build();
+  }
+
+  /**
+   * 회원 조회를 스텁한 CustomUserDetailsService (회원 캐시 비활성화)
+   */
+  public static CustomUserDetailsService userDetailsService(Member member) {
+    MemberRepository memberRepository = mock(MemberRepository.class, withSettings().stubOnly());
+    when(memberRepository.findByUsername(anyString())).thenReturn(Optional.of(member));
+    when(memberRepository.findById(any(UUID.class))).thenReturn(Optional.of(member));
+    return new CustomUserDetailsService(memberRepository, new MemberDetailsCache(null, null, null));
+  }
+
+  public static JwtUtil jwtUtil(CustomUserDetailsService customUserDetailsService, boolean statelessAuthEnabled) {
+    return jwtUtil(customUserDetailsService, statelessAuthEnabled, JwtClaimProfile.LEGACY);
+  }
+
+  public static JwtUtil jwtUtil(CustomUserDetailsService customUserDetailsService, boolean statelessAuthEnabled,
+      JwtClaimProfile claimProfile) {
+    JwtKeyRing jwtKeyRing = new JwtKeyRing(new JwtKeyRingProperties(), new ObjectMapper());
+    ReflectionTestUtils.setField(jwtKeyRing, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+    jwtKeyRing.init();
+
+    JwtUtil jwtUtil = new JwtUtil(customUserDetailsService, jwtKeyRing, tokenRejectionMonitor());
+    ReflectionTestUtils.setField(jwtUtil, "accessTokenExpTime", ACCESS_TOKEN_EXP_TIME);
+    ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpTime", REFRESH_TOKEN_EXP_TIME);
+    ReflectionTestUtils.setField(jwtUtil, "issuer", "benchmark");
+    ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 10_000L);
+    ReflectionTestUtils.setField(jwtUtil, "rejectedCacheMaxSize", 10_000L);
+    ReflectionTestUtils.setField(jwtUtil, "rejectedCacheTtlSeconds", 600L);
+    ReflectionTestUtils.setField(jwtUtil, "statelessAuthEnabled", statelessAuthEnabled);
+    ReflectionTestUtils.setField(jwtUtil, "claimProfile", claimProfile);
+    jwtUtil.init();
+    return jwtUtil;
+  }
+
+  /**
+   * 거절 로그를 모두 생략하는 TokenRejectionMonitor (로그 출력 비용 제외)
+   */
+  public static TokenRejectionMonitor tokenRejectionMonitor() {
+    return new TokenRejectionMonitor(new SimpleMeterRegistry(), new LogThrottle());
+  }
+
+  /**
+   * 폐기 목록이 비어있는 TokenRevocationService (Bloom filter 음성 -> Redis 미조회)
+   */
+  public static TokenRevocationService tokenRevocationService() {
+    TokenRevocationService tokenRevocationService = new TokenRevocationService(
+        mock(StringRedisTemplate.class, withSettings().stubOnly()),
+        mock(RedisMessageListenerContainer.class, withSettings().stubOnly()));
+    ReflectionTestUtils.setField(tokenRevocationService, "expectedInsertions", 100_000L);
+    ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveRate", 0.01);
+    tokenRevocationService.init();
+    return tokenRevocationService;
+  }
+}
@@ -0,0 +1,278 @@
+package com.chuseok22.lab.domain.github.issue.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
+import com.chuseok22.lab.domain.github.issue.controller.IssueHelperController;
+import com.chuseok22.lab.domain.github.api.service.GithubApiService;
+import com.chuseok22.lab.domain.github.api.service.GithubHttpClient;
+import com.chuseok22.lab.domain.github.issue.domain.IssueHelper;
+import com.chuseok22.lab.domain.github.issue.dto.IssueRequest;
+import com.chuseok22.lab.domain.github.issue.repository.IssueHelperRepository;
+import com.chuseok22.lab.domain.github.token.service.GithubTokenService;
+import com.chuseok22.lab.domain.member.domain.Member;
+import com.chuseok22.lab.domain.member.vo.Role;
+import com.chuseok22.lab.global.util.BlockingTaskExecutor;
+import com.chuseok22.lab.global.util.JsonFieldExtractor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * POST /api/github/issue 부하 비교: spring.threads.virtual.enabled on/off
+ * (./gradlew jmh -PjmhIncludes=IssueHelperLoadBenchmark)
+ * - 서버: 내장 Tomcat 에 IssueHelperController 만 올린 애플리케이션 (off = Tomcat 기본 최대 스레드 200, on = 요청당 가상 스레드)
+ * - 클라이언트: concurrentRequests 건의 POST 요청을 동시에 전송
+ * - Github API: 응답마다 stubLatencyMillis 만큼 지연하는 로컬 HTTP stub
+ * - DB, Redis, 토큰 조회는 스텁하고 인증은 고정 사용자 (네트워크 대기만 측정)
+ * 결과는 concurrentRequests 건을 모두 처리하는 데 걸린 시간입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IssueHelperLoadBenchmark {
+
+  private static final byte[] STUB_RESPONSE = "{\"title\":\"[기능개선] 🚀 부하 테스트 이슈\"}"
+      .getBytes(StandardCharsets.UTF_8);
+
+  @Param({"false", "true"})
+  private boolean virtualThreadsEnabled;
+
+  @Param({"2000"})
+  private int concurrentRequests;
+
+  @Param({"200"})
+  private long stubLatencyMillis;
+
+  private HttpServer githubStub;
+  private ExecutorService stubExecutor;
+  private ConfigurableApplicationContext applicationContext;
+  private ExecutorService clientExecutor;
+  private HttpClient httpClient;
+  private URI issueUri;
+  private final AtomicLong issueNumber = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    stubExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    githubStub = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+    githubStub.setExecutor(stubExecutor);
+    githubStub.createContext("/repos/", exchange -> {
+      try {
+        Thread.sleep(stubLatencyMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, STUB_RESPONSE.length);
+      try (OutputStream body = exchange.getResponseBody()) {
+        body.write(STUB_RESPONSE);
+      }
+    });
+    githubStub.start();
+
+    IssueHelperService issueHelperService = issueHelperService(
+        "http://localhost:" + githubStub.getAddress().getPort() + "/repos/");
+    CustomUserDetails customUserDetails = new CustomUserDetails(
+        Member.builder().memberId(UUID.randomUUID()).username("loadTestUser").role(Role.ROLE_USER).build());
+
+    // 명령행 인자로 전달하여 application.yml 의 spring.threads.virtual.enabled 보다 우선 적용
+    applicationContext = new SpringApplicationBuilder(LoadTestApplication.class)
+        .web(WebApplicationType.SERVLET)
+        .initializers(context -> {
+          context.getBeanFactory().registerSingleton("issueHelperController",
+              new IssueHelperController(issueHelperService));
+          context.getBeanFactory().registerSingleton("fixedPrincipalFilter", fixedPrincipalFilter(customUserDetails));
+        })
+        .run("--server.port=0",
+            "--spring.threads.virtual.enabled=" + virtualThreadsEnabled,
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=warn");
+    int serverPort = ((ServletWebServerApplicationContext) applicationContext).getWebServer().getPort();
+    issueUri = URI.create("http://localhost:" + serverPort + "/api/github/issue");
+
+    clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    httpClient = HttpClient.newBuilder()
+        .executor(clientExecutor)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    applicationContext.close();
+    clientExecutor.shutdownNow();
+    githubStub.stop(0);
+    stubExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public int processConcurrentRequests() {
+    List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrentRequests);
+    for (int i = 0; i < concurrentRequests; i++) {
+      HttpRequest request = HttpRequest.newBuilder(issueUri)
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(
+              "{\"issueUrl\":\"https://github.com/chuseok22/lab/issues/" + issueNumber.incrementAndGet() + "\"}"))
+          .build();
+      responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+    }
+    for (CompletableFuture<HttpResponse<Void>> response : responses) {
+      int statusCode = response.join().statusCode();
+      if (statusCode != 200) {
+        throw new IllegalStateException("이슈 처리 실패: status=" + statusCode);
+      }
+    }
+    return responses.size();
+  }
+
+  /**
+   * DB, Redis, 토큰 조회를 스텁한 IssueHelperService (Github API 호출만 실제 HTTP)
+   */
+  private IssueHelperService issueHelperService(String githubApiRootUrl) {
+    // stub 연결 수가 병목이 되지 않도록 연결 풀 확장
+    ConnectionProvider connectionProvider = ConnectionProvider.builder("github-stub")
+        .maxConnections(concurrentRequests)
+        .pendingAcquireMaxCount(-1)
+        .build();
+    WebClient webClient = WebClient.builder()
+        .clientConnector(new ReactorClientHttpConnector(
+            reactor.netty.http.client.HttpClient.create(connectionProvider)))
+        .build();
+
+    GithubTokenService githubTokenService = mock(GithubTokenService.class, withSettings().stubOnly());
+    // 벤치마크 대상은 동기 경로이므로 블로킹 실행기는 생성자 의존성으로만 사용
+    BlockingTaskExecutor blockingTaskExecutor = new BlockingTaskExecutor(new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(blockingTaskExecutor, "poolSize", 1);
+    ReflectionTestUtils.setField(blockingTaskExecutor, "queueCapacity", 256);
+    blockingTaskExecutor.init();
+    GithubHttpClient githubHttpClient = new GithubHttpClient(webClient, new JsonFieldExtractor(new ObjectMapper()),
+        new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(githubHttpClient, "etagCacheMaxSize", 10_000L);
+    ReflectionTestUtils.setField(githubHttpClient, "perTokenConcurrency", concurrentRequests); // 토큰 한도가 병목이 되지 않도록
+    githubHttpClient.init();
+    GithubApiService githubApiService = new GithubApiService(githubHttpClient, githubTokenService, blockingTaskExecutor);
+    ReflectionTestUtils.setField(githubApiService, "githubApiRootUrl", githubApiRootUrl);
+
+    IssueHelperRepository issueHelperRepository = mock(IssueHelperRepository.class, withSettings().stubOnly());
+    when(issueHelperRepository.findByIssueUrl(anyString())).thenReturn(null);
+    when(issueHelperRepository.save(any(IssueHelper.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // 매 요청이 Github API 까지 도달하도록 결과 캐시 비활성화
+    IssueResponseCache issueResponseCache = new IssueResponseCache(
+        mock(StringRedisTemplate.class, withSettings().stubOnly()), new ObjectMapper(), new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(issueResponseCache, "enabled", false);
+    issueResponseCache.init();
+
+    // Redis 임대는 항상 획득 (매 요청이 서로 다른 URL)
+    StringRedisTemplate leaseRedisTemplate = mock(StringRedisTemplate.class, withSettings().stubOnly());
+    ValueOperations<String, String> leaseOperations = mock(ValueOperations.class, withSettings().stubOnly());
+    when(leaseRedisTemplate.opsForValue()).thenReturn(leaseOperations);
+    when(leaseOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+    IssueFetchCoordinator issueFetchCoordinator = new IssueFetchCoordinator(
+        leaseRedisTemplate, blockingTaskExecutor, new SimpleMeterRegistry());
+    issueFetchCoordinator.init();
+
+    return new IssueHelperService(
+        issueHelperRepository, githubApiService, blockingTaskExecutor, issueResponseCache, issueFetchCoordinator);
+  }
+
+  /**
+   * JWT 인증 대신 고정 사용자를 SecurityContext 에 설정 (@AuthenticationPrincipal 주입용)
+   */
+  private static Filter fixedPrincipalFilter(CustomUserDetails customUserDetails) {
+    return (request, response, chain) -> {
+      SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+          customUserDetails, null, customUserDetails.getAuthorities()));
+      try {
+        chain.doFilter(request, response);
+      } finally {
+        SecurityContextHolder.clearContext();
+      }
+    };
+  }
+
+  /**
+   * 웹 계층만 구성한 부하 테스트용 애플리케이션 (DB, Redis, Security 자동 설정 제외)
+   * spring.threads.virtual.enabled 는 EmbeddedWebServerFactoryCustomizerAutoConfiguration 이 Tomcat 에 적용합니다.
+   */
+  @SpringBootConfiguration
+  @ImportAutoConfiguration({
+      ServletWebServerFactoryAutoConfiguration.class,
+      EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+      DispatcherServletAutoConfiguration.class,
+      WebMvcAutoConfiguration.class,
+      HttpMessageConvertersAutoConfiguration.class,
+      JacksonAutoConfiguration.class,
+      ValidationAutoConfiguration.class
+  })
+  public static class LoadTestApplication implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+      resolvers.add(new AuthenticationPrincipalArgumentResolver());
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.chuseok22.lab.global.filter;
+
+import com.chuseok22.lab.global.config.SecurityUrls;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 요청 경로 분류: 기존 AntPathMatcher 순회 vs RouteClassifier (./gradlew jmh -PjmhIncludes=RouteClassifierBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteClassifierBenchmark {
+
+  private static final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+  @Param({"/api/auth/validate/username", "/docs/swagger-ui/index.html", "/api/member", "/admin/dashboard"})
+  private String uri;
+
+  private RouteClassifier routeClassifier;
+
+  @Setup
+  public void setUp() {
+    routeClassifier = new RouteClassifier();
+  }
+
+  /**
+   * 기존 TokenAuthenticationFilter 방식 (화이트리스트 순회 + startsWith)
+   */
+  @Benchmark
+  public RouteType antPathMatcherLoop() {
+    if (SecurityUrls.AUTH_WHITELIST.stream().anyMatch(pattern -> pathMatcher.match(pattern, uri))) {
+      return RouteType.PUBLIC;
+    }
+    if (uri.startsWith("/api/")) {
+      return RouteType.API;
+    }
+    if (uri.startsWith("/admin/")) {
+      return RouteType.ADMIN_PAGE;
+    }
+    return RouteType.OTHER;
+  }
+
+  @Benchmark
+  public RouteType compiledPatterns() {
+    return routeClassifier.resolve(uri);
+  }
+
+  @Benchmark
+  public RouteType cachedClassify() {
+    return routeClassifier.classify(uri);
+  }
+}
@@ -0,0 +1,107 @@
+package com.chuseok22.lab.global.filter;
+
+import com.chuseok22.lab.benchmark.AuthBenchmarkFixture;
+import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
+import com.chuseok22.lab.domain.member.domain.Member;
+import com.chuseok22.lab.global.exception.ErrorResponseCatalog;
+import com.chuseok22.lab.global.util.CookieUtil;
+import com.chuseok22.lab.global.util.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * TokenAuthenticationFilter 요청당 처리량 및 할당량 (./gradlew jmh -PjmhIncludes=TokenAuthenticationFilterBenchmark)
+ * - 화이트리스트 경로
+ * - Bearer 토큰이 있는 API 요청
+ * - 쿠키 토큰이 있는 API 요청
+ * - 토큰이 없는 API 요청 (예외 없이 401 응답 작성)
+ * - 유효하지 않은 토큰의 API 요청 (401 응답 작성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenAuthenticationFilterBenchmark {
+
+  private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+  };
+
+  private TokenAuthenticationFilter tokenAuthenticationFilter;
+  private String accessToken;
+  private String bearerToken;
+
+  @Setup
+  public void setUp() {
+    Member member = AuthBenchmarkFixture.member();
+    JwtUtil jwtUtil = AuthBenchmarkFixture.jwtUtil(AuthBenchmarkFixture.userDetailsService(member), true);
+    accessToken = jwtUtil.createAccessToken(new CustomUserDetails(member));
+    bearerToken = "Bearer " + accessToken;
+    TokenResolverChain tokenResolverChain = new TokenResolverChain(List.of(
+        new BearerHeaderTokenResolver(),
+        new CookieTokenResolver(new CookieUtil(jwtUtil, null)),
+        new AdminPageParameterTokenResolver()));
+    tokenAuthenticationFilter = new TokenAuthenticationFilter(
+        jwtUtil,
+        tokenResolverChain,
+        AuthBenchmarkFixture.tokenRevocationService(),
+        AuthBenchmarkFixture.tokenRejectionMonitor(),
+        new RouteClassifier(),
+        new ErrorResponseCatalog(new ObjectMapper()));
+  }
+
+  @Benchmark
+  public void whitelistedPath(Blackhole blackhole) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/validate/username");
+    blackhole.consume(filter(request));
+  }
+
+  @Benchmark
+  public void authenticatedApiRequest(Blackhole blackhole) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/member");
+    request.addHeader("Authorization", bearerToken);
+    blackhole.consume(filter(request));
+  }
+
+  @Benchmark
+  public void cookieTokenApiRequest(Blackhole blackhole) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/member");
+    request.setCookies(new Cookie("accessToken", accessToken));
+    blackhole.consume(filter(request));
+  }
+
+  @Benchmark
+  public void missingTokenApiRequest(Blackhole blackhole) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/member");
+    blackhole.consume(filter(request));
+  }
+
+  @Benchmark
+  public void invalidTokenApiRequest(Blackhole blackhole) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/member");
+    request.addHeader("Authorization", "Bearer invalid.token.value");
+    blackhole.consume(filter(request));
+  }
+
+  private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    try {
+      tokenAuthenticationFilter.doFilterInternal(request, response, NO_OP_CHAIN);
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+    return response;
+  }
+}
@@ -0,0 +1,112 @@
+package com.chuseok22.lab.global.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+/**
+ * 이슈 본문 크기별 전체 JsonNode 변환 / 스트리밍 필드 추출 비교 (./gradlew jmh -PjmhIncludes=JsonFieldExtractorBenchmark)
+ * 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 지표로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonFieldExtractorBenchmark {
+
+  private static final int CHUNK_SIZE = 8 * 1024; // Reactor Netty 수신 버퍼 단위
+  private static final Set<String> ISSUE_FIELDS = Set.of("title");
+  private static final String BODY_LINE = "## 작업 내용\\n- 본문 항목\\n"; // JSON 이스케이프된 markdown 한 줄
+  private static final ResolvableType JSON_NODE_TYPE = ResolvableType.forClass(JsonNode.class);
+
+  @Param({"1024", "65536", "1048576"})
+  private int bodyLength; // 이슈 본문(markdown) 글자 수 (BODY_LINE 단위로 근사)
+
+  private Jackson2JsonDecoder jackson2JsonDecoder;
+  private JsonFieldExtractor jsonFieldExtractor;
+  private List<ByteBuffer> chunks;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    jackson2JsonDecoder = new Jackson2JsonDecoder(objectMapper);
+    jackson2JsonDecoder.setMaxInMemorySize(-1); // 본문 크기 제한 없이 비교
+    jsonFieldExtractor = new JsonFieldExtractor(objectMapper);
+
+    byte[] payload = issuePayload(bodyLength).getBytes(StandardCharsets.UTF_8);
+    chunks = new ArrayList<>();
+    for (int offset = 0; offset < payload.length; offset += CHUNK_SIZE) {
+      chunks.add(ByteBuffer.wrap(payload, offset, Math.min(CHUNK_SIZE, payload.length - offset)));
+    }
+  }
+
+  /**
+   * 기존 방식: 전체 Body 를 모은 후 JsonNode 트리로 변환 (bodyToMono(JsonNode.class))
+   */
+  @Benchmark
+  public String readTree() {
+    JsonNode json = jackson2JsonDecoder
+        .decodeToMono(body(), JSON_NODE_TYPE, MediaType.APPLICATION_JSON, Map.of())
+        .cast(JsonNode.class)
+        .block();
+    return json.get("title").asText();
+  }
+
+  /**
+   * 스트리밍 방식: title 만 추출 후 나머지 Body 구독 취소
+   */
+  @Benchmark
+  public String extractFields() {
+    JsonNode json = jsonFieldExtractor.extract(body(), ISSUE_FIELDS).block();
+    return json.get("title").asText();
+  }
+
+  // 수신 버퍼 단위로 나눈 응답 Body (요청마다 새로 구독)
+  private Flux<DataBuffer> body() {
+    return Flux.fromIterable(chunks)
+        .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.duplicate()));
+  }
+
+  /**
+   * Github 이슈 API 응답 형태 (필드 순서 유지)
+   */
+  private static String issuePayload(int bodyLength) {
+    String user = """
+        {"login":"chuseok22","id":1,"node_id":"MDQ6VXNlcjE=","avatar_url":"https://avatars.githubusercontent.com/u/1?v=4",\
+        "html_url":"https://github.com/chuseok22","type":"User","site_admin":false}""";
+    return """
+        {"url":"https://api.github.com/repos/chuseok22/lab/issues/1",\
+        "repository_url":"https://api.github.com/repos/chuseok22/lab",\
+        "html_url":"https://github.com/chuseok22/lab/issues/1",\
+        "id":1,"node_id":"I_kwDOAAAAAA","number":1,\
+        "title":"[기능개선] 🚀 스트리밍 필드 추출",\
+        "user":%s,\
+        "labels":[{"id":1,"name":"enhancement","color":"a2eeef","default":true}],\
+        "state":"open","locked":false,"assignees":[%s],"comments":3,\
+        "created_at":"2025-01-01T00:00:00Z","updated_at":"2025-01-02T00:00:00Z",\
+        "author_association":"OWNER",\
+        "body":"%s",\
+        "reactions":{"total_count":2,"+1":1,"heart":1},\
+        "state_reason":null}"""
+        .formatted(user, user, BODY_LINE.repeat(Math.max(1, bodyLength / BODY_LINE.length())));
+  }
+}
@@ -0,0 +1,71 @@
+package com.chuseok22.lab.global.util;
+
+import com.chuseok22.lab.benchmark.AuthBenchmarkFixture;
+import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
+import com.chuseok22.lab.domain.auth.vo.JwtClaimProfile;
+import com.chuseok22.lab.domain.member.domain.Member;
+import io.jsonwebtoken.Claims;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * LEGACY / COMPACT 클레임 방식별 토큰 크기와 파싱 시간 (./gradlew jmh -PjmhIncludes=JwtClaimProfileBenchmark)
+ * tokenBytes 보조 지표로 엑세스 토큰 바이트 크기를 함께 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtClaimProfileBenchmark {
+
+  @Param({"LEGACY", "COMPACT"})
+  private JwtClaimProfile claimProfile;
+
+  private JwtUtil jwtUtil;
+  private CustomUserDetails customUserDetails;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    Member member = AuthBenchmarkFixture.member();
+    jwtUtil = AuthBenchmarkFixture.jwtUtil(AuthBenchmarkFixture.userDetailsService(member), true, claimProfile);
+    customUserDetails = new CustomUserDetails(member);
+    accessToken = jwtUtil.createAccessToken(customUserDetails, UUID.randomUUID().toString());
+  }
+
+  @Benchmark
+  public Claims parse(TokenSize tokenSize) {
+    tokenSize.tokenBytes = accessToken.getBytes(StandardCharsets.US_ASCII).length;
+    return jwtUtil.getClaims(accessToken);
+  }
+
+  @Benchmark
+  public String create() {
+    return jwtUtil.createAccessToken(customUserDetails);
+  }
+
+  /**
+   * 토큰 바이트 크기 보조 지표
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class TokenSize {
+
+    public long tokenBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      tokenBytes = 0;
+    }
+  }
+}
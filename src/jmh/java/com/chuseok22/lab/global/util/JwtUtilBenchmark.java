@@ -0,0 +1,64 @@
+package com.chuseok22.lab.global.util;
+
+import com.chuseok22.lab.benchmark.AuthBenchmarkFixture;
+import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
+import com.chuseok22.lab.domain.auth.service.CustomUserDetailsService;
+import com.chuseok22.lab.domain.member.domain.Member;
+import io.jsonwebtoken.Claims;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+/**
+ * JwtUtil 토큰 발급/검증/인증 처리량 및 할당량 (./gradlew jmh -PjmhIncludes=JwtUtilBenchmark)
+ * getAuthentication 의 statelessAuthEnabled=false/true 결과가 토큰 클레임 기반 인증 모드 on/off 처리량(requests/sec) 비교입니다.
+ * (회원 조회는 스텁으로 DB 왕복 시간 제외, 요청당 DB 조회 횟수는 StatelessAuthenticationTest 에서 검증)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilBenchmark {
+
+  @Param({"false", "true"})
+  private boolean statelessAuthEnabled;
+
+  private JwtUtil jwtUtil;
+  private CustomUserDetails customUserDetails;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    Member member = AuthBenchmarkFixture.member();
+    CustomUserDetailsService customUserDetailsService = AuthBenchmarkFixture.userDetailsService(member);
+    jwtUtil = AuthBenchmarkFixture.jwtUtil(customUserDetailsService, statelessAuthEnabled);
+    customUserDetails = new CustomUserDetails(member);
+    accessToken = jwtUtil.createAccessToken(customUserDetails);
+  }
+
+  @Benchmark
+  public String createAccessToken() {
+    return jwtUtil.createAccessToken(customUserDetails);
+  }
+
+  @Benchmark
+  public boolean validateToken() {
+    return jwtUtil.validateToken(accessToken);
+  }
+
+  @Benchmark
+  public Claims getClaims() {
+    return jwtUtil.getClaims(accessToken);
+  }
+
+  @Benchmark
+  public Authentication getAuthentication() {
+    return jwtUtil.getAuthentication(accessToken);
+  }
+}
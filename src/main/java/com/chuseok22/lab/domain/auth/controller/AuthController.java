@@ -1,17 +1,23 @@
 package com.chuseok22.lab.domain.auth.controller;
 
+import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
 import com.chuseok22.lab.domain.auth.dto.JoinRequest;
 import com.chuseok22.lab.domain.auth.dto.LoginRequest;
+import com.chuseok22.lab.domain.auth.dto.SessionResponse;
 import com.chuseok22.lab.domain.auth.service.AuthService;
 import com.chuseok22.lab.global.aspect.LogMonitoringInvocation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -66,4 +72,31 @@ public class AuthController implements AuthControllerDocs{
   public ResponseEntity<Boolean> isValidationNickname(@RequestParam String nickname) {
     return ResponseEntity.ok(authService.validateNickname(nickname));
   }
+
+  @Override
+  @GetMapping("/sessions")
+  @LogMonitoringInvocation
+  public ResponseEntity<List<SessionResponse>> getSessions(
+      @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+    return ResponseEntity.ok(authService.getSessions(customUserDetails));
+  }
+
+  @Override
+  @DeleteMapping("/sessions/{sessionId}")
+  @LogMonitoringInvocation
+  public ResponseEntity<Void> revokeSession(
+      @AuthenticationPrincipal CustomUserDetails customUserDetails,
+      @PathVariable String sessionId) {
+    authService.revokeSession(customUserDetails, sessionId);
+    return ResponseEntity.noContent().build();
+  }
+
+  @Override
+  @DeleteMapping("/sessions")
+  @LogMonitoringInvocation
+  public ResponseEntity<Void> revokeAllSessions(
+      @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+    authService.revokeAllSessions(customUserDetails);
+    return ResponseEntity.noContent().build();
+  }
 }
@@ -1,9 +1,12 @@
 package com.chuseok22.lab.domain.auth.controller;
 
+import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
 import com.chuseok22.lab.domain.auth.dto.JoinRequest;
+import com.chuseok22.lab.domain.auth.dto.SessionResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 
 public interface AuthControllerDocs {
@@ -40,6 +43,8 @@ public interface AuthControllerDocs {
           - httpOnly=true 설정되어있는 쿠키에서 리프레시 토큰을 꺼내 엑세스 토큰을 재발급합니다.
           
           ### 유의사항
+          - 리프레시 토큰도 함께 교체됩니다. 여러 탭이 동시에 재발급하는 경우 유예 시간(jwt.refresh-rotation.grace-millis) 내 직전 토큰 요청에는 먼저 교체된 토큰을 다시 발급합니다.
+          - 유예 시간 이후 이미 교체된 토큰이 재사용되면 해당 세션이 폐기됩니다. (REFRESH_TOKEN_REUSED)
           """
   )
   ResponseEntity<Void> refreshAccessToken(HttpServletRequest request, HttpServletResponse response);
@@ -77,4 +82,58 @@ public interface AuthControllerDocs {
           """
   )
   ResponseEntity<Boolean> isValidationNickname(String nickname);
+
+  @Operation(
+      summary = "로그인 기기 목록",
+      description = """
+          
+          인증: `필요`
+          
+          ### 요청 파라미터 (Parameter)
+          `없음`
+          
+          ### 사용 방법
+          - 현재 로그인 중인 기기(세션) 목록을 반환합니다.
+          
+          ### 유의사항
+          - device: 로그인 시 User-Agent
+          """
+  )
+  ResponseEntity<List<SessionResponse>> getSessions(CustomUserDetails customUserDetails);
+
+  @Operation(
+      summary = "특정 기기 로그아웃",
+      description = """
+          
+          인증: `필요`
+          
+          ### 요청 파라미터 (Path)
+          - **sessionId** (String): 세션 id [필수]
+          
+          ### 사용 방법
+          - 해당 기기의 리프레시 토큰과 해당 기기로 발급된 엑세스 토큰을 폐기합니다.
+          
+          ### 유의사항
+          - 세션 id 가 없는 이전 버전 엑세스 토큰은 만료 시까지 유효합니다.
+          """
+  )
+  ResponseEntity<Void> revokeSession(CustomUserDetails customUserDetails, String sessionId);
+
+  @Operation(
+      summary = "모든 기기 로그아웃",
+      description = """
+          
+          인증: `필요`
+          
+          ### 요청 파라미터 (Parameter)
+          `없음`
+          
+          ### 사용 방법
+          - 모든 기기의 리프레시 토큰과 엑세스 토큰을 폐기합니다. (현재 요청의 토큰 포함)
+          
+          ### 유의사항
+          - 세션 id 가 없는 이전 버전 엑세스 토큰은 만료 시까지 유효합니다.
+          """
+  )
+  ResponseEntity<Void> revokeAllSessions(CustomUserDetails customUserDetails);
 }
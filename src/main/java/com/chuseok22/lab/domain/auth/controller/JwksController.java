@@ -0,0 +1,35 @@
+package com.chuseok22.lab.domain.auth.controller;
+
+import com.chuseok22.lab.global.util.JwtKeyRing;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(
+    name = "JWKS API",
+    description = "JWT 검증용 공개 키 제공"
+)
+public class JwksController implements JwksControllerDocs {
+
+  private static final Duration JWKS_MAX_AGE = Duration.ofMinutes(5);
+
+  private final JwtKeyRing jwtKeyRing;
+
+  @Override
+  @GetMapping("/.well-known/jwks.json")
+  public ResponseEntity<byte[]> getJwks() {
+    // If-None-Match 가 ETag 와 일치하면 304 응답
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.maxAge(JWKS_MAX_AGE).cachePublic())
+        .eTag(jwtKeyRing.getJwksEtag())
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(jwtKeyRing.getJwksJson());
+  }
+}
@@ -0,0 +1,26 @@
+package com.chuseok22.lab.domain.auth.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.ResponseEntity;
+
+public interface JwksControllerDocs {
+
+  @Operation(
+      summary = "JWKS 공개 키 목록",
+      description = """
+          
+          인증: `불필요`
+          
+          ### 요청 파라미터 (Parameter)
+          `없음`
+          
+          ### 사용 방법
+          - 게이트웨이 및 다른 서비스에서 JWT 헤더의 kid 에 해당하는 공개 키로 토큰을 직접 검증합니다.
+          
+          ### 유의사항
+          - ES256 서명 사용 시에만 키가 포함됩니다. (HS256 사용 시 빈 목록)
+          - Cache-Control: max-age=300, ETag 로 조건부 요청을 지원합니다.
+          """
+  )
+  ResponseEntity<byte[]> getJwks();
+}
@@ -0,0 +1,34 @@
+package com.chuseok22.lab.domain.auth.controller;
+
+import com.chuseok22.lab.domain.auth.dto.MemberSessionCountResponse;
+import com.chuseok22.lab.domain.auth.service.RefreshTokenService;
+import com.chuseok22.lab.global.aspect.LogMonitoringInvocation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/sessions")
+@Tag(
+    name = "관리자 세션 API",
+    description = "관리자용 로그인 세션 API 제공"
+)
+public class SessionAdminController implements SessionAdminControllerDocs {
+
+  private final RefreshTokenService refreshTokenService;
+
+  @Override
+  @GetMapping("")
+  @LogMonitoringInvocation
+  public ResponseEntity<List<MemberSessionCountResponse>> countSessionsByMember(
+      @RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "100") int size) {
+    return ResponseEntity.ok(refreshTokenService.countSessionsByMember(after, size));
+  }
+}
@@ -0,0 +1,30 @@
+package com.chuseok22.lab.domain.auth.controller;
+
+import com.chuseok22.lab.domain.auth.dto.MemberSessionCountResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+
+public interface SessionAdminControllerDocs {
+
+  @Operation(
+      summary = "회원별 로그인 세션 수",
+      description = """
+          
+          인증: `필요` (관리자)
+          
+          ### 요청 파라미터 (Parameter)
+          - **after** (String): 이전 페이지의 마지막 memberId [선택, 첫 페이지는 생략]
+          - **size** (int): 페이지 크기 [선택, 기본 100, 최대 1000]
+          
+          ### 사용 방법
+          - 로그인 세션이 있는 회원별 세션(기기) 수를 memberId 순서로 반환합니다.
+          - 다음 페이지는 응답의 마지막 memberId 를 after 로 전달합니다. 빈 목록이면 마지막 페이지입니다.
+          
+          ### 유의사항
+          - 만료 시각이 지났으나 아직 정리되지 않은 세션이 포함될 수 있습니다.
+          - 세션 저장 또는 토큰 재발급 이후의 회원만 집계됩니다.
+          """
+  )
+  ResponseEntity<List<MemberSessionCountResponse>> countSessionsByMember(String after, int size);
+}
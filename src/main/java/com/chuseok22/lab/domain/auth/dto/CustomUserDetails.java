@@ -1,9 +1,13 @@
 package com.chuseok22.lab.domain.auth.dto;
 
 import com.chuseok22.lab.domain.member.domain.Member;
+import com.chuseok22.lab.domain.member.vo.Role;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -12,34 +16,88 @@ import org.springframework.security.core.userdetails.UserDetails;
 @Getter
 public class CustomUserDetails implements UserDetails {
 
-  private final Member member;
+  private final String memberId;
+  private final String username;
+  private final Role role;
   private Map<String, Object> attributes;
 
+  // 캐시된 비밀번호 해시 (없으면 Member 엔티티에서 조회)
+  @Getter(AccessLevel.NONE)
+  private final String password;
+
+  // Member 엔티티는 실제로 필요한 시점에만 조회 (토큰 클레임 기반 인증)
+  @Getter(AccessLevel.NONE)
+  private final Supplier<Member> memberLoader;
+  @Getter(AccessLevel.NONE)
+  private Member member;
+
+  // 가상 스레드에서 DB 조회 중 carrier 스레드 고정(pinning)을 피하기 위해 synchronized 대신 사용
+  @Getter(AccessLevel.NONE)
+  private final ReentrantLock memberLock = new ReentrantLock();
+
   public CustomUserDetails(Member member) {
+    this.memberId = member.getMemberId() != null ? member.getMemberId().toString() : null;
+    this.username = member.getUsername();
+    this.role = member.getRole();
+    this.password = null;
+    this.memberLoader = null;
     this.member = member;
   }
 
   public CustomUserDetails(Member member, Map<String, Object> attributes) {
-    this.member = member;
+    this(member);
     this.attributes = attributes;
   }
 
-  @Override
-  public Collection<? extends GrantedAuthority> getAuthorities() {
-    return Collections.singletonList(new SimpleGrantedAuthority(member.getRole().name()));
+  /**
+   * 토큰 클레임만으로 생성하는 경량 principal
+   *
+   * @param memberLoader getMember() 최초 호출 시 Member 엔티티를 조회하는 함수
+   */
+  public CustomUserDetails(String memberId, String username, Role role, Supplier<Member> memberLoader) {
+    this(memberId, username, null, role, memberLoader);
   }
 
-  @Override
-  public String getPassword() {
-    return member.getPassword();
+  /**
+   * 캐시된 회원 인증 정보로 생성하는 principal (요청마다 새로 생성)
+   *
+   * @param memberLoader getMember() 최초 호출 시 Member 엔티티를 조회하는 함수
+   */
+  public CustomUserDetails(MemberDetailsSnapshot snapshot, Supplier<Member> memberLoader) {
+    this(snapshot.memberId().toString(), snapshot.username(), snapshot.password(), snapshot.role(), memberLoader);
+  }
+
+  private CustomUserDetails(String memberId, String username, String password, Role role,
+      Supplier<Member> memberLoader) {
+    this.memberId = memberId;
+    this.username = username;
+    this.password = password;
+    this.role = role;
+    this.memberLoader = memberLoader;
+  }
+
+  /**
+   * Member 엔티티 반환 (클레임 기반 principal 인 경우 최초 호출 시 DB 조회)
+   */
+  public Member getMember() {
+    memberLock.lock();
+    try {
+      if (member == null) {
+        member = memberLoader.get();
+      }
+      return member;
+    } finally {
+      memberLock.unlock();
+    }
   }
 
   @Override
-  public String getUsername() {
-    return member.getUsername();
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return Collections.singletonList(new SimpleGrantedAuthority(role.name()));
   }
 
-  public String getMemberId() {
-    return member.getMemberId().toString();
+  @Override
+  public String getPassword() {
+    return password != null ? password : getMember().getPassword();
   }
 }
@@ -0,0 +1,32 @@
+package com.chuseok22.lab.domain.auth.dto;
+
+import com.chuseok22.lab.domain.member.domain.Member;
+import com.chuseok22.lab.domain.member.vo.Role;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * 회원 캐시에 저장하는 인증 정보 (불변 객체)
+ * 변경 가능한 Member 엔티티를 요청 간에 공유하지 않도록 인증에 필요한 값만 복사합니다.
+ *
+ * @param memberId 회원 PK
+ * @param username 회원 아이디
+ * @param password 비밀번호 해시
+ * @param role     회원 권한
+ */
+@Builder
+public record MemberDetailsSnapshot(
+    UUID memberId,
+    String username,
+    String password,
+    Role role) {
+
+  public static MemberDetailsSnapshot from(Member member) {
+    return MemberDetailsSnapshot.builder()
+        .memberId(member.getMemberId())
+        .username(member.getUsername())
+        .password(member.getPassword())
+        .role(member.getRole())
+        .build();
+  }
+}
@@ -0,0 +1,8 @@
+package com.chuseok22.lab.domain.auth.dto;
+
+import lombok.Builder;
+
+@Builder
+public record MemberSessionCountResponse(String memberId, long sessionCount) {
+
+}
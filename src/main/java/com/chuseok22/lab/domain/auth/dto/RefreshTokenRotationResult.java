@@ -0,0 +1,15 @@
+package com.chuseok22.lab.domain.auth.dto;
+
+import com.chuseok22.lab.domain.auth.vo.RefreshTokenRotation;
+import lombok.Builder;
+
+/**
+ * 리프레시 토큰 교체 결과
+ *
+ * @param rotation     교체 결과
+ * @param refreshToken 쿠키로 발급할 리프레시 토큰 (ROTATED: 새 토큰, CONCURRENT: 먼저 교체된 현재 토큰, 그 외 null)
+ */
+@Builder
+public record RefreshTokenRotationResult(RefreshTokenRotation rotation, String refreshToken) {
+
+}
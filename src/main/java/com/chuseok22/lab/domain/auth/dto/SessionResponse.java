@@ -0,0 +1,9 @@
+package com.chuseok22.lab.domain.auth.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record SessionResponse(String sessionId, String device, LocalDateTime expiresAt) {
+
+}
@@ -0,0 +1,40 @@
+package com.chuseok22.lab.domain.auth.dto;
+
+import com.chuseok22.lab.domain.auth.vo.TokenCategory;
+import java.time.Instant;
+import lombok.Builder;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 (불변 객체)
+ * 한 번 검증된 토큰은 이 객체를 공유하여 재파싱하지 않습니다.
+ *
+ * @param tokenId   토큰 id (jti, 이전 버전 토큰은 null)
+ * @param username  토큰 subject (회원 아이디)
+ * @param memberId  회원 PK (이전 버전 토큰은 null)
+ * @param role      회원 권한
+ * @param sessionId 로그인 세션(기기) id (이전 버전 토큰은 null)
+ * @param category  Access/Refresh 토큰 구분
+ * @param expiresAt 만료 시각
+ */
+@Builder
+public record TokenClaims(
+    String tokenId,
+    String username,
+    String memberId,
+    String role,
+    String sessionId,
+    TokenCategory category,
+    Instant expiresAt) {
+
+  public boolean isExpired() {
+    return !expiresAt.isAfter(Instant.now());
+  }
+
+  /**
+   * 남은 유효기간(밀리초) 반환
+   */
+  public long getRemainingMillis() {
+    long remaining = expiresAt.toEpochMilli() - System.currentTimeMillis();
+    return remaining > 0 ? remaining : 0;
+  }
+}
@@ -6,6 +6,10 @@ import static com.chuseok22.lab.global.util.CommonUtil.nvl;
 
 import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
 import com.chuseok22.lab.domain.auth.dto.JoinRequest;
+import com.chuseok22.lab.domain.auth.dto.RefreshTokenRotationResult;
+import com.chuseok22.lab.domain.auth.dto.SessionResponse;
+import com.chuseok22.lab.domain.auth.dto.TokenClaims;
+import com.chuseok22.lab.domain.auth.vo.RefreshTokenRotation;
 import com.chuseok22.lab.domain.member.domain.Member;
 import com.chuseok22.lab.domain.member.repository.MemberRepository;
 import com.chuseok22.lab.domain.member.vo.Role;
@@ -13,12 +17,15 @@ import com.chuseok22.lab.global.exception.CustomException;
 import com.chuseok22.lab.global.exception.ErrorCode;
 import com.chuseok22.lab.global.util.CookieUtil;
 import com.chuseok22.lab.global.util.JwtUtil;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,20 +39,27 @@ public class AuthService {
   private final JwtUtil jwtUtil;
   private final BCryptPasswordEncoder bCryptPasswordEncoder;
   private final CookieUtil cookieUtil;
+  private final CustomUserDetailsService customUserDetailsService;
+  private final RefreshTokenService refreshTokenService;
+  private final TokenRevocationService tokenRevocationService;
+  private final MemberAvailabilityIndex memberAvailabilityIndex;
 
   /**
    * 회원가입 로직
+   * 가용성 인덱스는 다른 노드의 가입이 아직 전파되지 않았거나 적재 중일 수 있으므로, 중복 검증은 항상 DB 를 조회합니다.
    */
   @Transactional
   public void join(JoinRequest request) {
 
     // 1. 중복 아이디 검증
-    if (!validateUsername(request.getUsername())) {
+    if (memberRepository.existsByUsername(request.getUsername())) {
+      log.error("중복된 아이디입니다. 아이디: {}", request.getUsername());
       throw new CustomException(ErrorCode.DUPLICATE_USERNAME);
     }
 
     // 2. 중복 닉네임 검증
-    if (!validateNickname(request.getNickname())) {
+    if (memberRepository.existsByNickname(request.getNickname())) {
+      log.error("중복된 닉네임입니다. 닉네임: {}", request.getNickname());
       throw new CustomException(ErrorCode.DUPLICATE_NICKNAME);
     }
 
@@ -67,8 +81,9 @@ public class AuthService {
     log.debug("accessToken이 만료되어 재발급을 진행합니다.");
 
     // 쿠키에서 리프레시 토큰 추출
-    Cookie cookie = cookieUtil.getCookie(request, REFRESH_TOKEN.getPrefix());
-    String refreshToken = cookie.getValue();
+    String refreshToken = cookieUtil.findCookie(request, REFRESH_TOKEN.getPrefix())
+        .map(Cookie::getValue)
+        .orElse(null);
 
     // 리프레시 토큰이 없는 경우
     if (nvl(refreshToken, "").isEmpty()) {
@@ -76,21 +91,31 @@ public class AuthService {
       throw new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
     }
 
-    // 해당 refreshToken이 유효한지 검증
-    isValidateRefreshToken(refreshToken);
-
-    // 새로운 accessToken, refreshToken 발급
-    CustomUserDetails customUserDetails = (CustomUserDetails) jwtUtil
-        .getAuthentication(refreshToken).getPrincipal();
-    String newAccessToken = jwtUtil.createAccessToken(customUserDetails);
-    String newRefreshToken = jwtUtil.createRefreshToken(customUserDetails);
-
-    // 기존 refreshToken 삭제
-    String key = JwtUtil.REFRESH_KEY_PREFIX + customUserDetails.getMemberId();
-    jwtUtil.deleteRefreshToken(key);
-
-    // 새로운 refreshToken 저장
-    jwtUtil.saveRefreshToken(key, newRefreshToken);
+    // 해당 refreshToken이 유효한지 검증 (1회 파싱 후 클레임 재사용)
+    TokenClaims tokenClaims = verifyRefreshToken(refreshToken);
+
+    // 새로운 accessToken, refreshToken 발급 (재발급 시에는 항상 DB에서 회원 정보를 확인, 세션 id 유지)
+    CustomUserDetails customUserDetails = customUserDetailsService
+        .loadUserByUsername(tokenClaims.username());
+    String newAccessToken = jwtUtil.createAccessToken(customUserDetails, tokenClaims.sessionId());
+    String newRefreshToken = jwtUtil.createRefreshToken(customUserDetails, tokenClaims.sessionId());
+
+    // 해당 세션에 저장된 refreshToken 비교 후 새로운 refreshToken 으로 교체 (Redis 1회 왕복)
+    RefreshTokenRotationResult rotation = refreshTokenService.rotate(
+        customUserDetails.getMemberId(),
+        tokenClaims.sessionId(),
+        refreshToken,
+        newRefreshToken,
+        request.getHeader(HttpHeaders.USER_AGENT)
+    );
+    if (rotation.rotation() == RefreshTokenRotation.NOT_FOUND) {
+      log.error("저장된 refreshToken이 없습니다. memberId={}", customUserDetails.getMemberId());
+      throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+    } else if (rotation.rotation() == RefreshTokenRotation.REUSED) {
+      throw new CustomException(ErrorCode.REFRESH_TOKEN_REUSED);
+    }
+    // 다른 탭에서 먼저 교체한 경우 세션에 저장된 현재 refreshToken 을 그대로 발급
+    String issuedRefreshToken = rotation.refreshToken();
 
     // 기존 쿠키 삭제
     response.addCookie(cookieUtil.createDeleteCookie(ACCESS_TOKEN.getPrefix()));
@@ -98,12 +123,12 @@ public class AuthService {
 
     // 쿠키에 accessToken, refreshToken 추가
     response.addCookie(cookieUtil.createCookie(ACCESS_TOKEN.getPrefix(), newAccessToken));
-    response.addCookie(cookieUtil.createCookie(REFRESH_TOKEN.getPrefix(), newRefreshToken));
+    response.addCookie(cookieUtil.createCookie(REFRESH_TOKEN.getPrefix(), issuedRefreshToken));
 
     // TODO: Swagger 테스트를 위한 임시 반환
     try {
       response.getWriter().write("AccessToken: " + newAccessToken + "\n");
-      response.getWriter().write("RefreshToken: " + newRefreshToken);
+      response.getWriter().write("RefreshToken: " + issuedRefreshToken);
     } catch (IOException e) {
       log.error("응답값 생성 중 오류 발생: {}", e.getMessage());
       throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -111,11 +136,36 @@ public class AuthService {
   }
 
   /**
-   * 아이디 검증
+   * 로그인 중인 기기(세션) 목록 조회
+   */
+  public List<SessionResponse> getSessions(CustomUserDetails customUserDetails) {
+    return refreshTokenService.getSessions(customUserDetails.getMemberId());
+  }
+
+  /**
+   * 특정 기기(세션) 로그아웃
+   * 리프레시 세션 삭제 후 해당 세션으로 발급된 엑세스 토큰도 폐기합니다. (본인 세션인 경우에만)
+   */
+  public void revokeSession(CustomUserDetails customUserDetails, String sessionId) {
+    if (refreshTokenService.revokeSession(customUserDetails.getMemberId(), sessionId)) {
+      tokenRevocationService.revokeSession(sessionId);
+    }
+  }
+
+  /**
+   * 모든 기기 로그아웃 (현재 요청의 세션 포함)
+   */
+  public void revokeAllSessions(CustomUserDetails customUserDetails) {
+    refreshTokenService.revokeAllSessions(customUserDetails.getMemberId())
+        .forEach(tokenRevocationService::revokeSession);
+  }
+
+  /**
+   * 아이디 검증 (가용성 인덱스 음성이면 DB 조회 생략, 검증 API 전용)
+   * 트랜잭션 시작 시 커넥션을 획득하므로 @Transactional 을 사용하지 않습니다.
    */
-  @Transactional
   public Boolean validateUsername(String username) {
-    if (memberRepository.existsByUsername(username)) {
+    if (memberAvailabilityIndex.isUsernameTaken(username)) {
       log.error("중복된 아이디입니다. 아이디: {}", username);
       return false;
     }
@@ -123,11 +173,11 @@ public class AuthService {
   }
 
   /**
-   * 닉네임 검증
+   * 닉네임 검증 (가용성 인덱스 음성이면 DB 조회 생략, 검증 API 전용)
+   * 트랜잭션 시작 시 커넥션을 획득하므로 @Transactional 을 사용하지 않습니다.
    */
-  @Transactional
   public Boolean validateNickname(String nickname) {
-    if (memberRepository.existsByNickname(nickname)) {
+    if (memberAvailabilityIndex.isNicknameTaken(nickname)) {
       log.error("중복된 닉네임입니다. 닉네임: {}", nickname);
       return false;
     }
@@ -136,18 +186,34 @@ public class AuthService {
 
   /**
    * 요청된 리프레시 토큰이 유효한지 검증합니다.
+   *
+   * @return 검증된 리프레시 토큰 클레임
    */
-  private void isValidateRefreshToken(String token) {
-    if (jwtUtil.isExpired(token)) { // 리프레시 토큰 만료 여부 확인
+  private TokenClaims verifyRefreshToken(String token) {
+    TokenClaims tokenClaims;
+    try {
+      tokenClaims = jwtUtil.getVerifiedClaims(token);
+    } catch (ExpiredJwtException e) { // 리프레시 토큰 만료 여부 확인
       log.error("refreshToken이 만료되었습니다.");
       throw new CustomException(ErrorCode.EXPIRED_REFRESH_TOKEN);
     }
 
+    if (tokenClaims == null) {
+      log.error("유효하지 않은 refreshToken 입니다.");
+      throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
     // 토큰이 refresh인지 확인 (발급 시 페이로드에 명시)
-    String category = jwtUtil.getCategory(token);
-    if (!category.equals(REFRESH_TOKEN.getPrefix())) {
-      log.error("요청된 토큰이 refreshToken이 아닙니다. 요청된 토큰 카테고리: {}", category);
+    if (tokenClaims.category() != REFRESH_TOKEN) {
+      log.error("요청된 토큰이 refreshToken이 아닙니다. 요청된 토큰 카테고리: {}", tokenClaims.category());
+      throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
+    // 세션 id가 없는 이전 버전 리프레시 토큰은 재로그인 필요
+    if (tokenClaims.sessionId() == null) {
+      log.error("세션 id가 없는 refreshToken 입니다.");
       throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
     }
+    return tokenClaims;
   }
 }
@@ -1,12 +1,18 @@
 package com.chuseok22.lab.domain.auth.service;
 
 import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
+import com.chuseok22.lab.domain.auth.dto.MemberDetailsSnapshot;
+import com.chuseok22.lab.domain.auth.dto.TokenClaims;
 import com.chuseok22.lab.domain.member.domain.Member;
 import com.chuseok22.lab.domain.member.repository.MemberRepository;
+import com.chuseok22.lab.domain.member.vo.Role;
 import com.chuseok22.lab.global.exception.CustomException;
 import com.chuseok22.lab.global.exception.ErrorCode;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,15 +20,57 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
   private final MemberRepository memberRepository;
+  private final MemberDetailsCache memberDetailsCache;
 
+  /**
+   * 캐시된 인증 정보로 요청마다 새 principal 생성
+   * Member 엔티티는 getMember() 호출 시점에 memberId로 조회합니다.
+   */
   @Override
   public CustomUserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-    Member savedMember = memberRepository.findByUsername(username)
+    MemberDetailsSnapshot snapshot = memberDetailsCache.get(username,
+        key -> MemberDetailsSnapshot.from(findMember(key)));
+    return new CustomUserDetails(snapshot, () -> findMemberById(snapshot.memberId()));
+  }
+
+  /**
+   * 토큰 클레임(memberId, username, role)으로 DB 조회 없이 principal 생성
+   * Member 엔티티는 getMember() 호출 시점에 memberId로 조회합니다.
+   */
+  public CustomUserDetails loadUserByClaims(TokenClaims tokenClaims) {
+    UUID memberId = UUID.fromString(tokenClaims.memberId());
+    return new CustomUserDetails(
+        tokenClaims.memberId(),
+        tokenClaims.username(),
+        Role.valueOf(tokenClaims.role()),
+        () -> findMemberById(memberId)
+    );
+  }
+
+  /**
+   * 로그인 성공 시 저장된 해시의 strength 가 현재 설정보다 낮으면 재해시된 비밀번호로 교체합니다.
+   * (DaoAuthenticationProvider 가 호출, 회원 캐시는 MemberCacheEvictListener 가 무효화)
+   */
+  @Override
+  public UserDetails updatePassword(UserDetails user, String newPassword) {
+    Member member = findMember(user.getUsername());
+    member.setPassword(newPassword);
+    memberRepository.save(member);
+    log.debug("비밀번호 해시 strength 갱신: 회원: {}", user.getUsername());
+    return new CustomUserDetails(member);
+  }
+
+  private Member findMember(String username) {
+    return memberRepository.findByUsername(username)
+        .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+  }
+
+  private Member findMemberById(UUID memberId) {
+    return memberRepository.findById(memberId)
         .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-    return new CustomUserDetails(savedMember);
   }
 }
@@ -0,0 +1,119 @@
+package com.chuseok22.lab.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 비밀번호 검증 전용 실행기
+ * 비밀번호 해시 검증(BCrypt)을 고정 크기 스레드 풀에서만 수행하여 로그인 폭주 시에도 다른 API 의 CPU 를 보장합니다.
+ * 대기열이 가득 차면 대기하지 않고 즉시 거절합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoginAuthenticationExecutor {
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${auth.login.threads:0}")
+  private int threads; // 0: CPU 코어 수
+
+  @Value("${auth.login.queue-capacity:64}")
+  private int queueCapacity;
+
+  @Getter
+  @Value("${auth.login.retry-after-seconds:1}")
+  private int retryAfterSeconds; // 거절 시 Retry-After 헤더 값
+
+  private ThreadPoolExecutor executor;
+  private Timer hashTimer;
+  private Counter rejectedCounter;
+
+  @PostConstruct
+  public void init() {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    AtomicInteger sequence = new AtomicInteger();
+    executor = new ThreadPoolExecutor(
+        poolSize, poolSize,
+        0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "login-auth-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    Gauge.builder("auth.login.queue.depth", executor, e -> e.getQueue().size())
+        .description("로그인 검증 대기열 길이")
+        .register(meterRegistry);
+    Gauge.builder("auth.login.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("로그인 검증 중인 스레드 수")
+        .register(meterRegistry);
+    hashTimer = Timer.builder("auth.login.hash")
+        .description("로그인 비밀번호 검증 시간")
+        .register(meterRegistry);
+    rejectedCounter = Counter.builder("auth.login.rejected")
+        .description("대기열 초과로 거절된 로그인 요청 수")
+        .register(meterRegistry);
+    log.info("로그인 검증 실행기: 스레드 {}개, 대기열 {}", poolSize, queueCapacity);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  /**
+   * 로그인 검증 작업 실행 (완료 시까지 대기)
+   *
+   * @return 작업 결과
+   * @throws RejectedExecutionException 대기열 초과
+   * @throws AuthenticationException    검증 실패
+   */
+  public <T> T execute(Supplier<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(() -> hashTimer.record(task));
+    } catch (RejectedExecutionException e) {
+      rejectedCounter.increment();
+      throw e;
+    }
+
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof AuthenticationException authenticationException) {
+        throw authenticationException;
+      }
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new AuthenticationServiceException("로그인 검증 중 오류가 발생했습니다.", e.getCause());
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new AuthenticationServiceException("로그인 검증이 중단되었습니다.", e);
+    }
+  }
+}
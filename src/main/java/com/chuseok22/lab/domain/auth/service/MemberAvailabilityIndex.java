@@ -0,0 +1,176 @@
+package com.chuseok22.lab.domain.auth.service;
+
+import com.chuseok22.lab.domain.member.dto.MemberNameView;
+import com.chuseok22.lab.domain.member.repository.MemberRepository;
+import com.chuseok22.lab.global.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아이디/닉네임 가용성 인덱스 (Bloom filter)
+ * Bloom filter 음성이면 DB 조회 없이 "사용 가능"을 반환하고, 양성(사용 중일 가능성)인 경우에만 DB 를 조회합니다.
+ * 기동 시 회원 테이블에서 적재하고, 회원 저장 시 Redis pub/sub 으로 모든 노드에 추가합니다.
+ * (삭제/변경 전 값은 Bloom filter 에서 제거할 수 없으므로 DB 조회로 확인)
+ * 전파 지연 동안 음성 응답이 틀릴 수 있으므로 검증 API 에서만 사용하고, 회원가입은 항상 DB 로 중복을 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberAvailabilityIndex implements MessageListener {
+
+  public static final String ADD_CHANNEL = "member:availability:add";
+  private static final String USERNAME_PREFIX = "u:";
+  private static final String NICKNAME_PREFIX = "n:";
+
+  private final MemberRepository memberRepository;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${member.availability.expected-insertions:100000}")
+  private long expectedInsertions;
+
+  @Value("${member.availability.false-positive-rate:0.01}")
+  private double falsePositiveRate;
+
+  private FieldIndex usernameIndex;
+  private FieldIndex nicknameIndex;
+
+  // 적재 완료 전에는 항상 DB 조회
+  private volatile boolean ready;
+
+  @PostConstruct
+  public void init() {
+    usernameIndex = new FieldIndex("username");
+    nicknameIndex = new FieldIndex("nickname");
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(ADD_CHANNEL));
+  }
+
+  /**
+   * 기동 완료 후 회원 테이블 전체 아이디/닉네임 적재 (projection 스트리밍)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void load() {
+    long count = 0;
+    try (Stream<MemberNameView> names = memberRepository.streamAllNames()) {
+      for (MemberNameView name : (Iterable<MemberNameView>) names::iterator) {
+        usernameIndex.bloomFilter.put(name.getUsername());
+        nicknameIndex.bloomFilter.put(name.getNickname());
+        count++;
+      }
+    }
+    if (count > expectedInsertions) {
+      log.warn("회원 수({})가 가용성 인덱스 예상 저장 개수({})를 초과하여 오탐률이 높아집니다.", count, expectedInsertions);
+    }
+    ready = true;
+    log.info("아이디/닉네임 가용성 인덱스 적재 완료: {}명", count);
+  }
+
+  /**
+   * 사용 중인 아이디 여부
+   */
+  public boolean isUsernameTaken(String username) {
+    return usernameIndex.isTaken(username, memberRepository::existsByUsername);
+  }
+
+  /**
+   * 사용 중인 닉네임 여부
+   */
+  public boolean isNicknameTaken(String nickname) {
+    return nicknameIndex.isTaken(nickname, memberRepository::existsByNickname);
+  }
+
+  /**
+   * 저장된 회원 아이디/닉네임을 현재 노드에 추가하고 다른 노드에 전파
+   */
+  public void add(String username, String nickname) {
+    usernameIndex.bloomFilter.put(username);
+    nicknameIndex.bloomFilter.put(nickname);
+    try {
+      stringRedisTemplate.convertAndSend(ADD_CHANNEL, USERNAME_PREFIX + username);
+      stringRedisTemplate.convertAndSend(ADD_CHANNEL, NICKNAME_PREFIX + nickname);
+    } catch (Exception e) {
+      // 전파 실패 시 다른 노드는 재기동 전까지 해당 값을 DB 유니크 제약으로만 확인
+      log.error("가용성 인덱스 전파 실패: username={}, error={}", username, e.getMessage());
+    }
+  }
+
+  /**
+   * 다른 노드에서 저장된 아이디/닉네임 수신
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    if (body.startsWith(USERNAME_PREFIX)) {
+      usernameIndex.bloomFilter.put(body.substring(USERNAME_PREFIX.length()));
+    } else if (body.startsWith(NICKNAME_PREFIX)) {
+      nicknameIndex.bloomFilter.put(body.substring(NICKNAME_PREFIX.length()));
+    }
+  }
+
+  /**
+   * 필드별 Bloom filter 및 지표
+   * - member.availability.lookups{result=index}: DB 조회 없이 응답 (절약된 쿼리 수)
+   * - member.availability.lookups{result=database}: DB 조회
+   * - member.availability.false.positive.rate: DB 조회 중 실제로는 사용 가능했던 비율 (관측 오탐률)
+   */
+  private class FieldIndex {
+
+    private final BloomFilter bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    private final Counter indexLookups;
+    private final Counter databaseLookups;
+    private final Counter falsePositives;
+
+    private FieldIndex(String field) {
+      indexLookups = meterRegistry.counter("member.availability.lookups", "field", field, "result", "index");
+      databaseLookups = meterRegistry.counter("member.availability.lookups", "field", field, "result", "database");
+      falsePositives = meterRegistry.counter("member.availability.false.positives", "field", field);
+      Gauge.builder("member.availability.false.positive.rate", this, FieldIndex::observedFalsePositiveRate)
+          .tag("field", field)
+          .description("Bloom filter 양성 중 실제로 사용 가능했던 비율")
+          .register(meterRegistry);
+      Gauge.builder("member.availability.expected.false.positive.rate", bloomFilter, BloomFilter::expectedFalsePositiveRate)
+          .tag("field", field)
+          .description("Bloom filter 저장 상태 기준 예상 오탐률")
+          .register(meterRegistry);
+    }
+
+    private boolean isTaken(String value, Predicate<String> existsInDatabase) {
+      boolean mightContain = bloomFilter.mightContain(value);
+      if (ready && !mightContain) {
+        indexLookups.increment();
+        return false;
+      }
+
+      databaseLookups.increment();
+      boolean taken = existsInDatabase.test(value);
+      if (ready && !taken) {
+        falsePositives.increment();
+      }
+      return taken;
+    }
+
+    private double observedFalsePositiveRate() {
+      double lookups = databaseLookups.count();
+      return lookups == 0 ? 0 : falsePositives.count() / lookups;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.chuseok22.lab.domain.auth.service;
+
+import com.chuseok22.lab.domain.auth.dto.MemberDetailsSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원 인증 정보 로컬 캐시 (near-cache)
+ * 요청 간 공유되는 값이므로 Member 엔티티 대신 불변 스냅샷(MemberDetailsSnapshot)을 저장합니다.
+ * 회원 정보 변경/삭제 시 Redis pub/sub 으로 모든 노드의 캐시를 memberId 기준으로 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberDetailsCache implements MessageListener {
+
+  public static final String EVICT_CHANNEL = "member:cache:evict";
+  private static final String CACHE_NAME = "memberDetails";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${member.cache.enabled:true}")
+  private boolean enabled;
+
+  @Value("${member.cache.max-size:10000}")
+  private long maxSize;
+
+  @Value("${member.cache.ttl-seconds:600}")
+  private long ttlSeconds;
+
+  private Cache<String, MemberDetailsSnapshot> cache; // key: username
+
+  @PostConstruct
+  public void init() {
+    cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+
+    // hit, miss, eviction 카운터 노출 (cache.gets, cache.evictions)
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+  }
+
+  /**
+   * 캐시된 회원 인증 정보 반환 (없으면 loader로 조회 후 저장)
+   */
+  public MemberDetailsSnapshot get(String username, Function<String, MemberDetailsSnapshot> loader) {
+    if (!enabled) {
+      return loader.apply(username);
+    }
+    return cache.get(username, loader);
+  }
+
+  /**
+   * 모든 노드에서 해당 회원 캐시를 제거합니다.
+   * 트랜잭션 진행 중이면 커밋 이후 전파하여 다른 노드가 커밋 전 데이터를 다시 캐시하지 않도록 합니다.
+   */
+  public void evictAll(UUID memberId, String username) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          publishEviction(memberId, username);
+        }
+      });
+    } else {
+      publishEviction(memberId, username);
+    }
+  }
+
+  /**
+   * 현재 노드의 캐시만 제거
+   * 아이디가 변경된 경우 이전 아이디로 저장된 항목도 제거되도록 memberId 로 함께 찾습니다.
+   */
+  public void evictLocal(UUID memberId, String username) {
+    if (username != null) {
+      cache.invalidate(username);
+    }
+    cache.asMap().values().removeIf(snapshot -> snapshot.memberId().equals(memberId));
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /**
+   * 다른 노드에서 전파된 캐시 무효화 메시지 처리
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String memberId = new String(message.getBody(), StandardCharsets.UTF_8);
+    log.debug("회원 캐시 무효화 메시지 수신: memberId={}", memberId);
+    try {
+      evictLocal(UUID.fromString(memberId), null);
+    } catch (IllegalArgumentException e) {
+      log.error("잘못된 회원 캐시 무효화 메시지: {}", memberId);
+    }
+  }
+
+  private void publishEviction(UUID memberId, String username) {
+    evictLocal(memberId, username);
+    try {
+      stringRedisTemplate.convertAndSend(EVICT_CHANNEL, memberId.toString());
+    } catch (Exception e) {
+      // 전파 실패 시 다른 노드는 TTL 만료 후 갱신됨
+      log.error("회원 캐시 무효화 전파 실패: memberId={}, error={}", memberId, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,285 @@
+package com.chuseok22.lab.domain.auth.service;
+
+import com.chuseok22.lab.domain.auth.dto.MemberSessionCountResponse;
+import com.chuseok22.lab.domain.auth.dto.RefreshTokenRotationResult;
+import com.chuseok22.lab.domain.auth.dto.SessionResponse;
+import com.chuseok22.lab.domain.auth.vo.RefreshTokenRotation;
+import com.chuseok22.lab.global.util.JwtUtil;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis 리프레시 토큰 세션 저장소
+ * 회원별 하나의 Hash 에 기기(세션)별 리프레시 토큰을 저장합니다.
+ * key: RS:memberId, field: sessionId, value: 만료시각(ms)|기기정보|리프레시 토큰
+ * 교체 후에는 value: 만료시각(ms)|기기정보|교체시각(ms)|직전 리프레시 토큰|리프레시 토큰
+ * (여러 탭이 같은 쿠키로 동시에 재발급하는 경우 유예 시간 동안 직전 토큰을 허용)
+ * 세션이 있는 회원 id 는 RSI(Sorted Set, score 0) 에 저장하여 관리자 집계 시 keyspace 전체를 SCAN 하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+  public static final String SESSION_KEY_PREFIX = "RS:";
+  public static final String SESSION_INDEX_KEY = "RSI";
+  private static final String DELIMITER = "|";
+  private static final int MAX_DEVICE_LENGTH = 120;
+  private static final int MAX_PAGE_SIZE = 1000;
+
+  /**
+   * 만료된 세션 정리 후 새 세션 저장, 회원 key TTL 갱신, 회원 id 인덱스 추가 (1회 왕복)
+   */
+  private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+      local entries = redis.call('HGETALL', KEYS[1])
+      for i = 1, #entries, 2 do
+        local expiresAt = tonumber(string.match(entries[i + 1], '^(%d+)|'))
+        if expiresAt and expiresAt < tonumber(ARGV[4]) then
+          redis.call('HDEL', KEYS[1], entries[i])
+        end
+      end
+      redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+      redis.call('PEXPIRE', KEYS[1], ARGV[3])
+      redis.call('ZADD', KEYS[2], 0, ARGV[5])
+      return 1
+      """, Long.class);
+
+  /**
+   * 저장된 토큰 비교 -> 교체 -> TTL 갱신을 한 번의 왕복으로 원자적으로 처리
+   * 직전 토큰이 유예 시간 내에 다시 요청되면 세션을 유지하고 현재 토큰을 반환합니다.
+   * 반환값: {1} 교체 성공, {2, 현재 토큰} 동시 재발급, {0} 저장된 세션 없음, {-1} 재사용 감지 (세션 삭제)
+   */
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+      local stored = redis.call('HGET', KEYS[1], ARGV[1])
+      if not stored then
+        return {0}
+      end
+      local parts = {}
+      for part in string.gmatch(stored, '[^|]+') do
+        parts[#parts + 1] = part
+      end
+      local current = parts[#parts]
+      if current == ARGV[2] then
+        redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. ARGV[7] .. '|' .. ARGV[2] .. '|' .. ARGV[4])
+        redis.call('PEXPIRE', KEYS[1], ARGV[5])
+        redis.call('ZADD', KEYS[2], 0, ARGV[6])
+        return {1}
+      end
+      if #parts >= 5 and parts[#parts - 1] == ARGV[2]
+          and tonumber(ARGV[7]) - tonumber(parts[#parts - 2]) <= tonumber(ARGV[8]) then
+        return {2, current}
+      end
+      redis.call('HDEL', KEYS[1], ARGV[1])
+      return {-1}
+      """, List.class);
+
+  /**
+   * 회원의 모든 세션 id 조회 후 삭제, 회원 id 인덱스 제거 (1회 왕복)
+   */
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>("""
+      local sessionIds = redis.call('HKEYS', KEYS[1])
+      redis.call('DEL', KEYS[1])
+      redis.call('ZREM', KEYS[2], ARGV[1])
+      return sessionIds
+      """, List.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final JwtUtil jwtUtil;
+
+  @Value("${jwt.refresh-rotation.grace-millis:10000}")
+  private long rotationGraceMillis; // 교체된 직전 리프레시 토큰을 허용하는 시간 (동시 재발급)
+
+  /**
+   * 로그인 시 새 세션 저장
+   *
+   * @param memberId     회원 PK
+   * @param sessionId    세션(기기) id (리프레시 토큰 sid 클레임)
+   * @param refreshToken 리프레시 토큰
+   * @param userAgent    요청 User-Agent
+   */
+  public void createSession(String memberId, String sessionId, String refreshToken, String userAgent) {
+    log.debug("리프레시 토큰 세션 저장: memberId={}, sessionId={}", memberId, sessionId);
+    stringRedisTemplate.execute(
+        SAVE_SCRIPT,
+        List.of(SESSION_KEY_PREFIX + memberId, SESSION_INDEX_KEY),
+        sessionId,
+        toValue(refreshToken, userAgent),
+        String.valueOf(jwtUtil.getRefreshExpirationTime()),
+        String.valueOf(System.currentTimeMillis()),
+        memberId
+    );
+  }
+
+  /**
+   * 요청된 리프레시 토큰이 세션에 저장된 토큰과 일치하는 경우에만 새 토큰으로 교체합니다.
+   * 직전 토큰이 유예 시간 내에 요청된 경우(다른 탭의 동시 재발급) 세션을 유지하고 먼저 교체된 현재 토큰을 반환합니다.
+   *
+   * @return 교체 결과
+   */
+  public RefreshTokenRotationResult rotate(String memberId, String sessionId, String presentedToken, String newToken,
+      String userAgent) {
+    long now = System.currentTimeMillis();
+    List<?> result = stringRedisTemplate.execute(
+        ROTATE_SCRIPT,
+        List.of(SESSION_KEY_PREFIX + memberId, SESSION_INDEX_KEY),
+        sessionId,
+        presentedToken,
+        toPrefix(now, userAgent),
+        newToken,
+        String.valueOf(jwtUtil.getRefreshExpirationTime()),
+        memberId,
+        String.valueOf(now),
+        String.valueOf(rotationGraceMillis)
+    );
+
+    long code = result == null || result.isEmpty() ? 0 : ((Number) result.get(0)).longValue();
+    if (code == 1) {
+      return new RefreshTokenRotationResult(RefreshTokenRotation.ROTATED, newToken);
+    } else if (code == 2) {
+      log.debug("다른 요청에서 먼저 교체된 리프레시 토큰을 재사용합니다. memberId={}, sessionId={}", memberId, sessionId);
+      return new RefreshTokenRotationResult(RefreshTokenRotation.CONCURRENT, result.get(1).toString());
+    } else if (code < 0) {
+      log.warn("이미 교체된 리프레시 토큰 재사용이 감지되어 세션을 폐기합니다. memberId={}, sessionId={}", memberId, sessionId);
+      return new RefreshTokenRotationResult(RefreshTokenRotation.REUSED, null);
+    }
+    return new RefreshTokenRotationResult(RefreshTokenRotation.NOT_FOUND, null);
+  }
+
+  /**
+   * 회원의 유효한 세션 목록 반환
+   */
+  public List<SessionResponse> getSessions(String memberId) {
+    Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(SESSION_KEY_PREFIX + memberId);
+    long now = System.currentTimeMillis();
+    List<SessionResponse> sessions = new ArrayList<>();
+    entries.forEach((sessionId, value) -> {
+      String[] parts = value.toString().split("\\|", 3);
+      long expiresAt = Long.parseLong(parts[0]);
+      if (expiresAt > now) {
+        sessions.add(SessionResponse.builder()
+            .sessionId(sessionId.toString())
+            .device(parts[1])
+            .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAt), ZoneId.systemDefault()))
+            .build());
+      }
+    });
+    return sessions;
+  }
+
+  /**
+   * 특정 세션 로그아웃
+   *
+   * @return 해당 회원의 세션이 삭제되었으면 true
+   */
+  public boolean revokeSession(String memberId, String sessionId) {
+    Long deleted = stringRedisTemplate.opsForHash().delete(SESSION_KEY_PREFIX + memberId, sessionId);
+    boolean revoked = deleted != null && deleted > 0;
+    log.debug("세션 삭제: memberId={}, sessionId={}, 삭제 여부={}", memberId, sessionId, revoked);
+    return revoked;
+  }
+
+  /**
+   * 모든 기기 로그아웃 (회원 Hash 단일 삭제)
+   *
+   * @return 삭제된 세션 id 목록
+   */
+  public List<String> revokeAllSessions(String memberId) {
+    List<?> sessionIds = stringRedisTemplate.execute(
+        REVOKE_ALL_SCRIPT,
+        List.of(SESSION_KEY_PREFIX + memberId, SESSION_INDEX_KEY),
+        memberId
+    );
+    log.debug("모든 세션 삭제: memberId={}", memberId);
+    return sessionIds == null ? List.of() : sessionIds.stream().map(Object::toString).toList();
+  }
+
+  /**
+   * 회원별 세션 수 (회원 id 인덱스 keyset 페이지 조회 후 HLEN 파이프라인)
+   * 세션 key 가 만료된 회원은 인덱스에서 제거하고 결과에서 제외합니다.
+   *
+   * @param after 이전 페이지의 마지막 회원 id (첫 페이지는 null)
+   * @param size  페이지 크기
+   */
+  public List<MemberSessionCountResponse> countSessionsByMember(String after, int size) {
+    size = Math.clamp(size, 1, MAX_PAGE_SIZE);
+    List<MemberSessionCountResponse> responses = new ArrayList<>();
+    String cursor = after;
+    while (responses.size() < size) {
+      Range<String> range = cursor == null
+          ? Range.unbounded()
+          : Range.rightUnbounded(Range.Bound.exclusive(cursor));
+      Set<String> memberIds = stringRedisTemplate.opsForZSet()
+          .rangeByLex(SESSION_INDEX_KEY, range, Limit.limit().count(size - responses.size()));
+      if (memberIds == null || memberIds.isEmpty()) {
+        break;
+      }
+
+      List<String> page = new ArrayList<>(memberIds);
+      List<Object> counts = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        hashLengths(connection, page);
+        return null;
+      });
+
+      List<String> expired = new ArrayList<>();
+      for (int i = 0; i < page.size(); i++) {
+        long sessionCount = (Long) counts.get(i);
+        if (sessionCount == 0) {
+          expired.add(page.get(i));
+          continue;
+        }
+        responses.add(MemberSessionCountResponse.builder()
+            .memberId(page.get(i))
+            .sessionCount(sessionCount)
+            .build());
+      }
+      if (!expired.isEmpty()) {
+        stringRedisTemplate.opsForZSet().remove(SESSION_INDEX_KEY, expired.toArray());
+      }
+      cursor = page.get(page.size() - 1);
+    }
+    return responses;
+  }
+
+  private void hashLengths(RedisConnection connection, List<String> memberIds) {
+    for (String memberId : memberIds) {
+      connection.hashCommands().hLen((SESSION_KEY_PREFIX + memberId).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  // 만료시각(ms)|기기정보|리프레시 토큰
+  private String toValue(String refreshToken, String userAgent) {
+    return toPrefix(System.currentTimeMillis(), userAgent) + DELIMITER + refreshToken;
+  }
+
+  // 만료시각(ms)|기기정보
+  private String toPrefix(long now, String userAgent) {
+    return (now + jwtUtil.getRefreshExpirationTime()) + DELIMITER + toDevice(userAgent);
+  }
+
+  private String toDevice(String userAgent) {
+    if (userAgent == null || userAgent.isBlank()) {
+      return "unknown";
+    }
+    String device = userAgent.replace(DELIMITER, "/");
+    return device.length() > MAX_DEVICE_LENGTH ? device.substring(0, MAX_DEVICE_LENGTH) : device;
+  }
+}
@@ -0,0 +1,55 @@
+package com.chuseok22.lab.domain.auth.service;
+
+import com.chuseok22.lab.domain.auth.vo.TokenRejectionCause;
+import com.chuseok22.lab.global.util.LogThrottle;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 인증 거절 기록
+ * 사유별 카운터(auth.token.rejected{cause, cached})를 증가시키고, 로그는 사유별로 출력량을 제한합니다.
+ */
+@Component
+@Slf4j
+public class TokenRejectionMonitor {
+
+  private static final String LOG_CATEGORY_PREFIX = "token.rejected.";
+
+  private final LogThrottle logThrottle;
+  private final Map<TokenRejectionCause, Counter> verifiedCounters = new EnumMap<>(TokenRejectionCause.class);
+  private final Map<TokenRejectionCause, Counter> cachedCounters = new EnumMap<>(TokenRejectionCause.class);
+
+  public TokenRejectionMonitor(MeterRegistry meterRegistry, LogThrottle logThrottle) {
+    this.logThrottle = logThrottle;
+    for (TokenRejectionCause cause : TokenRejectionCause.values()) {
+      verifiedCounters.put(cause, rejectedCounter(meterRegistry, cause, false));
+      cachedCounters.put(cause, rejectedCounter(meterRegistry, cause, true));
+    }
+  }
+
+  /**
+   * 토큰 거절 기록
+   *
+   * @param cause  거절 사유
+   * @param cached 거절 캐시에서 판정된 경우 true (서명 검증 생략)
+   * @param detail 로그에 함께 남길 정보
+   */
+  public void record(TokenRejectionCause cause, boolean cached, String detail) {
+    (cached ? cachedCounters : verifiedCounters).get(cause).increment();
+    if (logThrottle.tryAcquire(LOG_CATEGORY_PREFIX + cause.name())) {
+      log.warn("{} {}", cause.getMessage(), detail);
+    }
+  }
+
+  private static Counter rejectedCounter(MeterRegistry meterRegistry, TokenRejectionCause cause, boolean cached) {
+    return Counter.builder("auth.token.rejected")
+        .description("토큰 인증 거절 횟수")
+        .tag("cause", cause.name())
+        .tag("cached", String.valueOf(cached))
+        .register(meterRegistry);
+  }
+}
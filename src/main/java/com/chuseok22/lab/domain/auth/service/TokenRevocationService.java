@@ -0,0 +1,158 @@
+package com.chuseok22.lab.domain.auth.service;
+
+import com.chuseok22.lab.domain.auth.dto.TokenClaims;
+import com.chuseok22.lab.global.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 엑세스 토큰 폐기 목록 (key: RV:jti, 토큰 만료 시 함께 만료)
+ * 세션(기기) 로그아웃 시에는 세션 id 를 폐기하여 해당 세션으로 발급된 모든 엑세스 토큰을 거절합니다.
+ * (key: RVS:sessionId, 엑세스 토큰 최대 수명 후 만료)
+ * 노드마다 폐기된 jti, 세션 id 의 로컬 Bloom filter 를 유지하여 Bloom filter 양성인 경우에만 Redis 를 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService implements MessageListener {
+
+  public static final String REVOKED_KEY_PREFIX = "RV:";
+  public static final String REVOKED_SESSION_KEY_PREFIX = "RVS:";
+  private static final String SESSION_ENTRY_PREFIX = "sid:"; // Bloom filter 내 jti 와 구분
+  public static final String REVOKED_CHANNEL = "token:revoked";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Value("${jwt.revocation.expected-insertions:100000}")
+  private long expectedInsertions;
+
+  @Value("${jwt.revocation.false-positive-rate:0.01}")
+  private double falsePositiveRate;
+
+  @Value("${jwt.access-exp-time:3600000}")
+  private long accessTokenExpTime; // 세션 폐기 보관 기간 (해당 세션의 엑세스 토큰이 모두 만료되는 시간)
+
+  // 엑세스 토큰 최대 수명마다 세대 교체 (이전 세대까지 조회하여 만료 전 토큰 누락 방지)
+  private volatile BloomFilter currentGeneration;
+  private volatile BloomFilter previousGeneration;
+
+  @PostConstruct
+  public void init() {
+    currentGeneration = newGeneration();
+    previousGeneration = newGeneration();
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+    loadRevokedTokenIds();
+  }
+
+  /**
+   * 엑세스 토큰 폐기 (로그아웃)
+   */
+  public void revoke(TokenClaims tokenClaims) {
+    String tokenId = tokenClaims.tokenId();
+    long remainingMillis = tokenClaims.getRemainingMillis();
+    if (tokenId == null || remainingMillis == 0) {
+      return;
+    }
+
+    currentGeneration.put(tokenId);
+    stringRedisTemplate.opsForValue()
+        .set(REVOKED_KEY_PREFIX + tokenId, "1", remainingMillis, TimeUnit.MILLISECONDS);
+    stringRedisTemplate.convertAndSend(REVOKED_CHANNEL, tokenId);
+    log.debug("엑세스 토큰 폐기: jti={}", tokenId);
+  }
+
+  /**
+   * 세션(기기)의 모든 엑세스 토큰 폐기 (세션 로그아웃)
+   * 세션 id(sid 클레임)가 없는 이전 버전 토큰은 만료 시까지 유효합니다.
+   */
+  public void revokeSession(String sessionId) {
+    String entry = SESSION_ENTRY_PREFIX + sessionId;
+    currentGeneration.put(entry);
+    stringRedisTemplate.opsForValue()
+        .set(REVOKED_SESSION_KEY_PREFIX + sessionId, "1", accessTokenExpTime, TimeUnit.MILLISECONDS);
+    stringRedisTemplate.convertAndSend(REVOKED_CHANNEL, entry);
+    log.debug("세션 엑세스 토큰 폐기: sessionId={}", sessionId);
+  }
+
+  /**
+   * 폐기된 토큰 여부 (토큰 jti 또는 세션 id 폐기)
+   * Bloom filter 음성이면 Redis 조회 없이 false 반환
+   */
+  public boolean isRevoked(TokenClaims tokenClaims) {
+    String tokenId = tokenClaims.tokenId();
+    String sessionId = tokenClaims.sessionId();
+    return (tokenId != null && isRevoked(tokenId, REVOKED_KEY_PREFIX + tokenId))
+        || (sessionId != null && isRevoked(SESSION_ENTRY_PREFIX + sessionId, REVOKED_SESSION_KEY_PREFIX + sessionId));
+  }
+
+  private boolean isRevoked(String entry, String key) {
+    if (!currentGeneration.mightContain(entry) && !previousGeneration.mightContain(entry)) {
+      return false;
+    }
+
+    try {
+      return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+    } catch (Exception e) {
+      // Bloom filter 양성인 토큰은 Redis 장애 시 폐기된 것으로 간주
+      log.error("토큰 폐기 여부 조회 실패: key={}, error={}", key, e.getMessage());
+      return true;
+    }
+  }
+
+  /**
+   * 다른 노드에서 폐기된 jti, 세션 id 수신
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    currentGeneration.put(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Bloom filter 세대 교체 (엑세스 토큰 만료 시간 주기)
+   */
+  @Scheduled(fixedDelayString = "${jwt.access-exp-time}", initialDelayString = "${jwt.access-exp-time}")
+  public void rotateGeneration() {
+    previousGeneration = currentGeneration;
+    currentGeneration = newGeneration();
+    log.debug("토큰 폐기 Bloom filter 세대 교체");
+  }
+
+  // 기동 시 Redis 에 남아있는 폐기 목록으로 Bloom filter 초기화
+  private void loadRevokedTokenIds() {
+    int count = loadRevoked(REVOKED_KEY_PREFIX, "");
+    int sessionCount = loadRevoked(REVOKED_SESSION_KEY_PREFIX, SESSION_ENTRY_PREFIX);
+    log.info("토큰 폐기 목록 로드 완료: 토큰 {}건, 세션 {}건", count, sessionCount);
+  }
+
+  private int loadRevoked(String keyPrefix, String entryPrefix) {
+    ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(1000).build();
+    int count = 0;
+    try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        currentGeneration.put(entryPrefix + cursor.next().substring(keyPrefix.length()));
+        count++;
+      }
+    } catch (Exception e) {
+      log.error("토큰 폐기 목록 로드 실패: prefix={}, error={}", keyPrefix, e.getMessage());
+    }
+    return count;
+  }
+
+  private BloomFilter newGeneration() {
+    return new BloomFilter(expectedInsertions, falsePositiveRate);
+  }
+}
@@ -0,0 +1,18 @@
+package com.chuseok22.lab.domain.auth.vo;
+
+/**
+ * JWT 클레임 작성 방식
+ * 검증 시에는 두 방식 모두 허용합니다.
+ */
+public enum JwtClaimProfile {
+
+  /**
+   * 기존 방식 (category, username, memberId, role, iss 클레임)
+   */
+  LEGACY,
+
+  /**
+   * 축약 방식 (짧은 클레임 이름, 중복 제거, enum 코드, UUID Base64url 인코딩, iss 생략)
+   */
+  COMPACT
+}
@@ -0,0 +1,11 @@
+package com.chuseok22.lab.domain.auth.vo;
+
+/**
+ * 리프레시 토큰 교체 결과
+ */
+public enum RefreshTokenRotation {
+  ROTATED, // 저장된 토큰과 일치하여 새 토큰으로 교체
+  CONCURRENT, // 유예 시간 내 직전 토큰 재요청 (다른 탭의 동시 재발급) -> 현재 토큰 재사용
+  NOT_FOUND, // 저장된 토큰 없음 (로그아웃 또는 만료)
+  REUSED // 이미 교체된 토큰 재사용 감지 -> 세션 폐기
+}
@@ -6,8 +6,38 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum TokenCategory {
-  ACCESS_TOKEN("accessToken"),
-  REFRESH_TOKEN("refreshToken");
+  ACCESS_TOKEN("accessToken", 0),
+  REFRESH_TOKEN("refreshToken", 1);
 
   private final String prefix;
+  private final int code; // 축약 클레임 코드
+
+  /**
+   * prefix 문자열에 해당하는 토큰 카테고리 반환
+   *
+   * @param prefix accessToken, refreshToken
+   * @return 일치하는 카테고리가 없으면 null
+   */
+  public static TokenCategory fromPrefix(String prefix) {
+    for (TokenCategory category : values()) {
+      if (category.prefix.equals(prefix)) {
+        return category;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 축약 클레임 코드에 해당하는 토큰 카테고리 반환
+   *
+   * @return 일치하는 카테고리가 없으면 null
+   */
+  public static TokenCategory fromCode(Integer code) {
+    for (TokenCategory category : values()) {
+      if (code != null && category.code == code) {
+        return category;
+      }
+    }
+    return null;
+  }
 }
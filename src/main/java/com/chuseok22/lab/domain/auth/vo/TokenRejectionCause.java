@@ -0,0 +1,20 @@
+package com.chuseok22.lab.domain.auth.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 인증 거절 사유 (auth.token.rejected 메트릭 cause 태그)
+ */
+@Getter
+@AllArgsConstructor
+public enum TokenRejectionCause {
+  EXPIRED("JWT 토큰이 만료되었습니다."),
+  UNSUPPORTED("지원되지 않는 JWT 토큰입니다."),
+  MALFORMED("형식이 잘못된 JWT 토큰입니다."),
+  INVALID_SIGNATURE("JWT 서명이 유효하지 않습니다."),
+  EMPTY("JWT 토큰이 비어있거나 null입니다."),
+  REVOKED("폐기된 엑세스 토큰입니다.");
+
+  private final String message;
+}
@@ -5,10 +5,13 @@ import com.chuseok22.lab.domain.github.token.service.GithubTokenService;
 import com.chuseok22.lab.domain.member.domain.Member;
 import com.chuseok22.lab.global.exception.CustomException;
 import com.chuseok22.lab.global.exception.ErrorCode;
-import com.chuseok22.lab.global.util.WebClientService;
+import com.chuseok22.lab.global.util.BlockingTaskExecutor;
 import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
@@ -17,52 +20,94 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 @Slf4j
 public class GithubApiService {
 
-  private final WebClientService webClientService;
+  // 이슈 응답(body, user, labels, reactions 등) 중 사용하는 필드만 추출
+  private static final Set<String> ISSUE_FIELDS = Set.of("title");
+
+  private final GithubHttpClient githubHttpClient;
   private final GithubTokenService githubTokenService;
+  private final BlockingTaskExecutor blockingTaskExecutor;
 
-  private static final String GITHUB_API_ROOT_URL = "https://api.github.com/repos/";
+  @Value("${github.api-url:https://api.github.com/repos/}")
+  private String githubApiRootUrl; // 부하 테스트 시 로컬 stub 으로 교체
 
   public GithubIssueApiResponse fetchIssue(Member member, String issueUrl, String requestToken) {
 
     String apiUrl = convertToApiUrl(issueUrl);
-    String token;
+    String token = resolveToken(member, requestToken);
+
+    try {
+      JsonNode json = githubHttpClient.getJsonFields(apiUrl, token, ISSUE_FIELDS).block();
+      return toApiResponse(json, issueUrl);
+    } catch (WebClientResponseException e) {
+      throw toCustomException(e, token);
+    }
+  }
+
+  /**
+   * Github 이슈 비동기 조회
+   * 토큰 조회(DB)는 블로킹 실행기에서, Github API 대기는 WebClient 이벤트 루프에서 처리합니다.
+   * 반환된 future 는 이벤트 루프 스레드에서 완료되므로 후속 블로킹 작업은 별도 실행기에서 수행해야 합니다.
+   */
+  public CompletableFuture<GithubIssueApiResponse> fetchIssueAsync(Member member, String issueUrl, String requestToken) {
+    return blockingTaskExecutor.supplyAsync(() -> resolveToken(member, requestToken))
+        .thenCompose(token -> fetchIssueAsync(issueUrl, token));
+  }
+
+  /**
+   * 이미 결정된 토큰으로 Github 이슈 비동기 조회 (일괄 조회 시 토큰 조회/저장 1회)
+   *
+   * @param token resolveToken 결과 (없으면 null)
+   */
+  public CompletableFuture<GithubIssueApiResponse> fetchIssueAsync(String issueUrl, String token) {
+    String apiUrl = convertToApiUrl(issueUrl);
+    return githubHttpClient.getJsonFields(apiUrl, token, ISSUE_FIELDS)
+        .map(json -> toApiResponse(json, issueUrl))
+        .onErrorMap(WebClientResponseException.class, e -> toCustomException(e, token))
+        .toFuture();
+  }
+
+  /**
+   * 요청된 토큰은 저장 후 사용, 없으면 저장된 토큰 사용 (DB 조회, 블로킹)
+   */
+  public String resolveToken(Member member, String requestToken) {
     if (requestToken != null) { // 토큰이 요청 된 경우
       githubTokenService.saveOrUpdateToken(member, requestToken); // 토큰 저장 및 업데이트
-      token = requestToken;
+      return requestToken;
     } else { // 토큰이 요청 되지 않은 경우
-      token = githubTokenService.getMemberGithubToken(member);
+      return githubTokenService.getMemberGithubToken(member);
     }
+  }
 
-    try {
-      JsonNode json = webClientService.getJson(apiUrl, token);
-      String title = json.get("title").asText();
-      if (title == null) {
-        log.error("Github Issue 응답 JSON에 title이 존재하지 않습니다.");
-        throw new CustomException(ErrorCode.INVALID_RESPONSE_BODY);
-      }
-      log.debug("URL: {} Github API 요청 성공", issueUrl);
-      return GithubIssueApiResponse.builder()
-          .title(title)
-          .issueUrl(issueUrl)
-          .build();
-    } catch (WebClientResponseException e) {
-      if (e.getStatusCode().is4xxClientError()) {
-        if (token == null) {
-          log.error("Private 레포지토리 접근 시 토큰이 필요합니다.");
-          throw new CustomException(ErrorCode.GITHUB_TOKEN_REQUIRED);
-        }
-        log.error("잘못된 깃허브 토큰입니다.");
-        throw new CustomException(ErrorCode.INVALID_GITHUB_TOKEN);
+  private GithubIssueApiResponse toApiResponse(JsonNode json, String issueUrl) {
+    JsonNode title = json.get("title");
+    if (title == null || title.isNull()) {
+      log.error("Github Issue 응답 JSON에 title이 존재하지 않습니다.");
+      throw new CustomException(ErrorCode.INVALID_RESPONSE_BODY);
+    }
+    log.debug("URL: {} Github API 요청 성공", issueUrl);
+    return GithubIssueApiResponse.builder()
+        .title(title.asText())
+        .issueUrl(issueUrl)
+        .build();
+  }
+
+  private CustomException toCustomException(WebClientResponseException e, String token) {
+    if (e.getStatusCode().is4xxClientError()) {
+      if (token == null) {
+        log.error("Private 레포지토리 접근 시 토큰이 필요합니다.");
+        return new CustomException(ErrorCode.GITHUB_TOKEN_REQUIRED);
       }
-      log.error("API 요청 시 오류가 발생했습니다. 에러: {}", e.getMessage());
-      throw new CustomException(ErrorCode.GITHUB_API_ERROR);
+      log.error("잘못된 깃허브 토큰입니다.");
+      return new CustomException(ErrorCode.INVALID_GITHUB_TOKEN);
     }
+    log.error("API 요청 시 오류가 발생했습니다. 에러: {}", e.getMessage());
+    return new CustomException(ErrorCode.GITHUB_API_ERROR);
   }
 
   // API요청을 위한 URL 변환
   private String convertToApiUrl(String issueUrl) {
     // https://github.com/owner/repo/issues/123 -> https://api.github.com/repos/owner/repo/issues/123
     String path = issueUrl.replace("https://github.com/", "");
-    return GITHUB_API_ROOT_URL + path;
+    return githubApiRootUrl + path;
   }
 }
@@ -0,0 +1,379 @@
+package com.chuseok22.lab.domain.github.api.service;
+
+import static com.chuseok22.lab.global.util.CommonUtil.nvl;
+
+import com.chuseok22.lab.global.exception.CustomException;
+import com.chuseok22.lab.global.exception.ErrorCode;
+import com.chuseok22.lab.global.util.JsonFieldExtractor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.HexFormat;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Github API 조건부 요청 클라이언트
+ * - 응답 ETag 와 Body 를 저장하고 다음 요청에 If-None-Match 를 전송합니다. (304 응답은 rate limit 에 포함되지 않음)
+ * - 토큰별 X-RateLimit-Remaining, X-RateLimit-Reset 을 기록하여 남은 요청 수가 적으면 저장된 응답을 반환하고,
+ *   모두 소진된 경우 Github 가 403 을 반환하기 전에 요청을 보류하거나 거절합니다.
+ * - getJsonFields 는 응답 Body 전체를 트리로 변환하지 않고 지정된 필드만 스트리밍으로 추출하여 저장합니다.
+ * - 토큰별 동시 요청 수를 제한하여 여러 요청(일괄 처리 포함)이 같은 토큰으로 Github secondary rate limit 을 넘지 않도록 합니다.
+ */
+@Component
+@Slf4j
+public class GithubHttpClient {
+
+  private static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+  private static final String RATE_LIMIT_RESET = "X-RateLimit-Reset";
+  private static final String ANONYMOUS = "anonymous";
+
+  private final WebClient webClient;
+  private final JsonFieldExtractor jsonFieldExtractor;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${github.http.etag-cache.max-size:10000}")
+  private long etagCacheMaxSize; // ETag 응답 저장 최대 개수
+
+  @Value("${github.rate-limit.reserve:10}")
+  private int rateLimitReserve; // 남은 요청 수가 이 값 이하이면 저장된 응답 우선 반환
+
+  @Value("${github.rate-limit.max-wait-millis:0}")
+  private long rateLimitMaxWaitMillis; // 요청 수 소진 시 초기화까지 대기할 최대 시간 (초과 시 거절)
+
+  @Value("${github.rate-limit.per-token-concurrency:8}")
+  private int perTokenConcurrency; // 토큰당 동시 Github API 요청 수 (노드 내 모든 요청 합산, 초과 시 대기)
+
+  // key: 토큰 digest + URL (+ 추출 필드)
+  private Cache<String, CachedResponse> responseCache;
+
+  // key: 토큰 digest
+  private Cache<String, RateLimit> rateLimits;
+
+  // key: 토큰 digest
+  private Cache<String, TokenPermits> tokenPermits;
+
+  private Counter okCounter;
+  private Counter notModifiedCounter;
+  private Counter cachedCounter;
+  private Counter rateLimitedCounter;
+
+  public GithubHttpClient(@Qualifier("githubWebClient") WebClient webClient, JsonFieldExtractor jsonFieldExtractor,
+      MeterRegistry meterRegistry) {
+    this.webClient = webClient;
+    this.jsonFieldExtractor = jsonFieldExtractor;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @PostConstruct
+  public void init() {
+    responseCache = Caffeine.newBuilder()
+        .maximumSize(etagCacheMaxSize)
+        .build();
+    rateLimits = Caffeine.newBuilder()
+        .maximumSize(etagCacheMaxSize)
+        .expireAfterWrite(Duration.ofHours(1)) // Github rate limit 초기화 주기
+        .build();
+    tokenPermits = Caffeine.newBuilder()
+        .maximumSize(etagCacheMaxSize)
+        .expireAfterAccess(Duration.ofHours(1))
+        .build();
+
+    okCounter = requestCounter("ok");
+    notModifiedCounter = requestCounter("not_modified");
+    cachedCounter = requestCounter("cached");
+    rateLimitedCounter = requestCounter("rate_limited");
+    Gauge.builder("github.rate.limit.remaining", this, GithubHttpClient::minRemaining)
+        .description("추적 중인 토큰의 최소 남은 요청 수 (-1: 기록 없음)")
+        .register(meterRegistry);
+  }
+
+  /**
+   * JSON GET 요청 (조건부 요청 + rate limit 확인)
+   *
+   * @throws CustomException GITHUB_RATE_LIMITED 요청 수가 소진되었고 저장된 응답이 없는 경우
+   * @throws org.springframework.web.reactive.function.client.WebClientResponseException 그 외 오류 응답
+   */
+  public Mono<JsonNode> getJson(String url, String token) {
+    return get(url, token, url, response -> response.bodyToMono(JsonNode.class));
+  }
+
+  /**
+   * 루트 객체의 지정된 필드만 추출하는 JSON GET 요청 (조건부 요청 + rate limit 확인)
+   * 필드를 모두 찾으면 나머지 Body 는 읽지 않으며, 저장된 응답도 추출한 필드만 보관합니다.
+   *
+   * @return 찾은 필드만 담은 객체
+   * @throws CustomException GITHUB_RATE_LIMITED 요청 수가 소진되었고 저장된 응답이 없는 경우
+   */
+  public Mono<JsonNode> getJsonFields(String url, String token, Set<String> fields) {
+    String variant = url + "#" + String.join(",", new TreeSet<>(fields)); // 전체 응답과 구분하여 저장
+    return get(url, token, variant,
+        response -> jsonFieldExtractor.extract(response.bodyToFlux(DataBuffer.class), fields));
+  }
+
+  private Mono<JsonNode> get(String url, String token, String variant,
+      Function<ClientResponse, Mono<JsonNode>> bodyReader) {
+    String tokenKey = tokenKey(token);
+    String cacheKey = tokenKey + " " + variant;
+    CachedResponse cached = responseCache.getIfPresent(cacheKey);
+    RateLimit rateLimit = rateLimits.getIfPresent(tokenKey);
+    long nowSeconds = Instant.now().getEpochSecond();
+
+    if (rateLimit != null && rateLimit.isLow(rateLimitReserve, nowSeconds)) {
+      if (cached != null) {
+        log.debug("Github 남은 요청 수 {}: 저장된 응답 반환 URL={}", rateLimit.remaining(), url);
+        cachedCounter.increment();
+        return Mono.just(cached.body());
+      }
+      if (rateLimit.isExhausted(nowSeconds)) {
+        long waitMillis = (rateLimit.resetEpochSeconds() - nowSeconds) * 1000;
+        if (waitMillis > rateLimitMaxWaitMillis) {
+          log.warn("Github 요청 수가 소진되었습니다. 초기화까지 {}초", waitMillis / 1000);
+          rateLimitedCounter.increment();
+          return Mono.error(new CustomException(ErrorCode.GITHUB_RATE_LIMITED));
+        }
+        log.debug("Github 요청 수 초기화까지 {}ms 대기 후 요청합니다.", waitMillis);
+        return Mono.delay(Duration.ofMillis(waitMillis))
+            .then(withPermit(tokenKey, () -> send(url, token, tokenKey, cacheKey, cached, bodyReader)));
+      }
+    }
+    return withPermit(tokenKey, () -> send(url, token, tokenKey, cacheKey, cached, bodyReader));
+  }
+
+  // 토큰별 동시 요청 수 이내에서 요청 (응답 Body 를 모두 읽거나 취소되면 반환)
+  private Mono<JsonNode> withPermit(String tokenKey, Supplier<Mono<JsonNode>> request) {
+    TokenPermits permits = tokenPermits.get(tokenKey, key -> new TokenPermits(perTokenConcurrency));
+    return Mono.usingWhen(permits.acquire(),
+        permit -> request.get(),
+        Permit::release,
+        (permit, error) -> permit.release(),
+        Permit::release);
+  }
+
+  private Mono<JsonNode> send(String url, String token, String tokenKey, String cacheKey, CachedResponse cached,
+      Function<ClientResponse, Mono<JsonNode>> bodyReader) {
+    log.debug("Github API 요청: URL={}, 조건부 요청={}", url, cached != null);
+
+    WebClient.RequestHeadersSpec<?> request = webClient.get().uri(url);
+    if (!nvl(token, "").isEmpty()) {
+      request = request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+    if (cached != null) {
+      request = request.header(HttpHeaders.IF_NONE_MATCH, cached.etag());
+    }
+
+    return request.exchangeToMono(response -> handle(response, tokenKey, cacheKey, cached, bodyReader))
+        .onErrorMap(WebClientRequestException.class, e -> {
+          // 연결 실패, 연결 풀 대기 초과, 응답 타임아웃
+          log.error("Github API 요청 실패: URL={}, error={}", url, e.getMessage());
+          return new CustomException(ErrorCode.GITHUB_API_UNAVAILABLE);
+        });
+  }
+
+  private Mono<JsonNode> handle(ClientResponse response, String tokenKey, String cacheKey, CachedResponse cached,
+      Function<ClientResponse, Mono<JsonNode>> bodyReader) {
+    HttpHeaders headers = response.headers().asHttpHeaders();
+    recordRateLimit(tokenKey, headers);
+    HttpStatusCode status = response.statusCode();
+
+    if (status.value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+      notModifiedCounter.increment();
+      return response.releaseBody().thenReturn(cached.body());
+    }
+
+    if (status.is2xxSuccessful()) {
+      String etag = headers.getETag();
+      return bodyReader.apply(response)
+          .switchIfEmpty(Mono.error(new CustomException(ErrorCode.INVALID_RESPONSE_BODY)))
+          .doOnNext(body -> {
+            okCounter.increment();
+            if (etag != null) {
+              responseCache.put(cacheKey, new CachedResponse(etag, body));
+            }
+          });
+    }
+
+    if (isRateLimited(status, headers)) {
+      rateLimitedCounter.increment();
+      if (cached != null) {
+        log.warn("Github rate limit 초과: 저장된 응답 반환");
+        return response.releaseBody().thenReturn(cached.body());
+      }
+      log.warn("Github rate limit 초과: status={}", status.value());
+      return response.releaseBody().then(Mono.error(new CustomException(ErrorCode.GITHUB_RATE_LIMITED)));
+    }
+
+    return response.createException().flatMap(Mono::error);
+  }
+
+  // 403 + 남은 요청 수 0 (primary rate limit) 또는 429 (secondary rate limit)
+  private boolean isRateLimited(HttpStatusCode status, HttpHeaders headers) {
+    return status.value() == HttpStatus.TOO_MANY_REQUESTS.value()
+        || (status.value() == HttpStatus.FORBIDDEN.value() && "0".equals(headers.getFirst(RATE_LIMIT_REMAINING)));
+  }
+
+  private void recordRateLimit(String tokenKey, HttpHeaders headers) {
+    String remaining = headers.getFirst(RATE_LIMIT_REMAINING);
+    String reset = headers.getFirst(RATE_LIMIT_RESET);
+    if (remaining == null || reset == null) {
+      return;
+    }
+    try {
+      rateLimits.put(tokenKey, new RateLimit(Integer.parseInt(remaining), Long.parseLong(reset)));
+    } catch (NumberFormatException e) {
+      log.debug("Github rate limit 헤더 파싱 실패: remaining={}, reset={}", remaining, reset);
+    }
+  }
+
+  private double minRemaining() {
+    return rateLimits.asMap().values().stream()
+        .mapToInt(RateLimit::remaining)
+        .min()
+        .orElse(-1);
+  }
+
+  private Counter requestCounter(String result) {
+    return Counter.builder("github.api.requests")
+        .description("Github API 요청 결과")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 토큰 원문을 key 로 보관하지 않도록 SHA-256 digest 사용
+   */
+  private static String tokenKey(String token) {
+    if (nvl(token, "").isEmpty()) {
+      return ANONYMOUS;
+    }
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(hash, 0, 16);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
+  private record CachedResponse(String etag, JsonNode body) {
+
+  }
+
+  private record RateLimit(int remaining, long resetEpochSeconds) {
+
+    boolean isLow(int reserve, long nowSeconds) {
+      return remaining <= reserve && nowSeconds < resetEpochSeconds;
+    }
+
+    boolean isExhausted(long nowSeconds) {
+      return remaining <= 0 && nowSeconds < resetEpochSeconds;
+    }
+  }
+
+  /**
+   * 토큰 1개의 동시 요청 허가 (대기 요청은 도착 순서대로 허가, 스레드를 블로킹하지 않음)
+   */
+  private static final class TokenPermits {
+
+    private final int maxPermits;
+    private final Queue<Waiter> waiters = new ArrayDeque<>();
+    private int inUse;
+
+    private TokenPermits(int maxPermits) {
+      this.maxPermits = Math.max(1, maxPermits);
+    }
+
+    private Mono<Permit> acquire() {
+      return Mono.create(sink -> {
+        Permit permit = new Permit(this);
+        sink.onCancel(() -> {
+          synchronized (this) {
+            if (waiters.removeIf(waiter -> waiter.permit() == permit) || !permit.granted) {
+              permit.cancelled = true; // 허가 전 취소
+              return;
+            }
+          }
+          permit.release(); // 허가 직후 취소된 경우 다음 대기 요청으로 넘김
+        });
+
+        synchronized (this) {
+          if (permit.cancelled) {
+            return;
+          }
+          if (inUse >= maxPermits) {
+            waiters.add(new Waiter(sink, permit));
+            return;
+          }
+          inUse++;
+          permit.granted = true;
+        }
+        sink.success(permit);
+      });
+    }
+
+    private void handOver() {
+      Waiter next;
+      synchronized (this) {
+        next = waiters.poll();
+        if (next == null) {
+          inUse--;
+          return;
+        }
+        next.permit().granted = true;
+      }
+      next.sink().success(next.permit());
+    }
+  }
+
+  private record Waiter(MonoSink<Permit> sink, Permit permit) {
+
+  }
+
+  /**
+   * 요청 1건의 허가 (반환은 1회만 적용)
+   */
+  private static final class Permit {
+
+    private final TokenPermits owner;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private boolean granted; // owner 잠금 안에서만 변경
+    private boolean cancelled; // owner 잠금 안에서만 변경
+
+    private Permit(TokenPermits owner) {
+      this.owner = owner;
+    }
+
+    private Mono<Void> release() {
+      if (released.compareAndSet(false, true)) {
+        owner.handOver();
+      }
+      return Mono.empty();
+    }
+  }
+}
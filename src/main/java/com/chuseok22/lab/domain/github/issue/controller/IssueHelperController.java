@@ -1,20 +1,24 @@
 package com.chuseok22.lab.domain.github.issue.controller;
 
 import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
+import com.chuseok22.lab.domain.github.issue.dto.IssueBatchItemResponse;
+import com.chuseok22.lab.domain.github.issue.dto.IssueBatchRequest;
 import com.chuseok22.lab.domain.github.issue.dto.IssueRequest;
 import com.chuseok22.lab.domain.github.issue.dto.IssueResponse;
 import com.chuseok22.lab.domain.github.issue.service.IssueHelperService;
-import com.chuseok22.lab.domain.member.domain.Member;
 import com.chuseok22.lab.global.aspect.LogMonitoringInvocation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequiredArgsConstructor
@@ -33,7 +37,25 @@ public class IssueHelperController implements IssueHelperControllerDocs {
   public ResponseEntity<IssueResponse> processIssueHelper(
       @AuthenticationPrincipal CustomUserDetails customUserDetails,
       @RequestBody @Valid IssueRequest request) {
-    Member member = customUserDetails.getMember();
-    return ResponseEntity.ok(issueHelperService.processIssueHelper(member, request));
+    return ResponseEntity.ok(issueHelperService.processIssueHelper(customUserDetails, request));
+  }
+
+  @Override
+  @PostMapping(value = "/async")
+  @LogMonitoringInvocation
+  public CompletableFuture<ResponseEntity<IssueResponse>> processIssueHelperAsync(
+      @AuthenticationPrincipal CustomUserDetails customUserDetails,
+      @RequestBody @Valid IssueRequest request) {
+    return issueHelperService.processIssueHelperAsync(customUserDetails, request)
+        .thenApply(ResponseEntity::ok);
+  }
+
+  @Override
+  @PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @LogMonitoringInvocation
+  public Flux<IssueBatchItemResponse> processIssueHelperBatch(
+      @AuthenticationPrincipal CustomUserDetails customUserDetails,
+      @RequestBody @Valid IssueBatchRequest request) {
+    return issueHelperService.processIssueHelperBatch(customUserDetails, request);
   }
 }
@@ -1,10 +1,14 @@
 package com.chuseok22.lab.domain.github.issue.controller;
 
 import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
+import com.chuseok22.lab.domain.github.issue.dto.IssueBatchItemResponse;
+import com.chuseok22.lab.domain.github.issue.dto.IssueBatchRequest;
 import com.chuseok22.lab.domain.github.issue.dto.IssueRequest;
 import com.chuseok22.lab.domain.github.issue.dto.IssueResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
 
 public interface IssueHelperControllerDocs {
   @Operation(
@@ -28,4 +32,54 @@ public interface IssueHelperControllerDocs {
       CustomUserDetails customUserDetails,
       IssueRequest request);
 
+  @Operation(
+      summary = "Issue Helper (비동기)",
+      description = """
+          
+          인증: `필요`
+          
+          ### 요청 파라미터 (JSON)
+          - **issueUrl** (String): Issue URL [필수]
+          - **githubToken** (String): Github Token [선택]
+          
+          ### 사용 방법
+          - `/api/github/issue` 와 요청/응답이 동일합니다.
+          - Github API 응답을 기다리는 동안 요청 스레드를 반환하여 동시 요청 처리량을 높입니다.
+          
+          ### 유의사항
+          - `spring.mvc.async.request-timeout` 을 초과하면 503 응답이 반환됩니다.
+          """
+  )
+  CompletableFuture<ResponseEntity<IssueResponse>> processIssueHelperAsync(
+      CustomUserDetails customUserDetails,
+      IssueRequest request);
+
+  @Operation(
+      summary = "Issue Helper (일괄 처리)",
+      description = """
+          
+          인증: `필요`
+          
+          ### 요청 파라미터 (JSON)
+          - **issueUrls** (List<String>): Issue URL 목록 (최대 100개) [필수]
+          - **githubToken** (String): Github Token [선택]
+          
+          ### 반환값 (application/x-ndjson)
+          - 처리가 완료되는 순서대로 한 줄에 하나씩 반환합니다.
+          - **issueUrl** (String): 요청한 Issue URL
+          - **branchName** (String): 브랜치명 (성공 시)
+          - **commitMessage** (String): 커밋 메시지 (성공 시)
+          - **errorCode** (String): 에러 코드 (실패 시)
+          - **errorMessage** (String): 에러 메시지 (실패 시)
+          
+          ### 유의사항
+          - 중복된 URL 은 한 번만 처리합니다.
+          - 일부 이슈의 오류(Private 레포지토리, 잘못된 토큰 등)는 해당 항목에만 반환되며 나머지 이슈는 계속 처리됩니다.
+          - 레포지토리별로 동시 요청 수를 제한하여 Github API 를 호출합니다.
+          """
+  )
+  Flux<IssueBatchItemResponse> processIssueHelperBatch(
+      CustomUserDetails customUserDetails,
+      IssueBatchRequest request);
+
 }
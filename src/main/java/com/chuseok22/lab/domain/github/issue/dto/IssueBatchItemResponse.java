@@ -0,0 +1,16 @@
+package com.chuseok22.lab.domain.github.issue.dto;
+
+import lombok.Builder;
+
+/**
+ * 일괄 처리 결과 (이슈 1건)
+ * 성공 시 branchName, commitMessage / 실패 시 errorCode, errorMessage
+ */
+@Builder
+public record IssueBatchItemResponse(
+    String issueUrl,
+    String branchName,
+    String commitMessage,
+    String errorCode,
+    String errorMessage
+) {}
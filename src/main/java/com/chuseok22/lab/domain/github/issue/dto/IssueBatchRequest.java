@@ -0,0 +1,26 @@
+package com.chuseok22.lab.domain.github.issue.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class IssueBatchRequest {
+  @NotEmpty
+  @Size(max = 100)
+  private List<@NotBlank String> issueUrls;
+
+  private String githubToken;
+}
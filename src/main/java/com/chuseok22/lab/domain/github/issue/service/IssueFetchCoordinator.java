@@ -0,0 +1,274 @@
+package com.chuseok22.lab.domain.github.issue.service;
+
+import com.chuseok22.lab.domain.github.issue.dto.IssueResponse;
+import com.chuseok22.lab.global.exception.CustomException;
+import com.chuseok22.lab.global.exception.ErrorCode;
+import com.chuseok22.lab.global.util.BlockingTaskExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이슈 URL 별 Github 조회 single-flight
+ * - 노드 내: 진행 중인 조회 future 를 공유하여 같은 URL 동시 요청은 하나의 조회 결과를 기다립니다.
+ * - 노드 간: Redis 임대(IHL:issueUrl, SET NX PX)를 획득한 노드만 Github API 호출 및 저장을 수행하고,
+ *   나머지 노드는 저장된 결과가 조회될 때까지 대기합니다.
+ * 임대를 가진 노드가 종료되어도 임대 만료 후 다른 노드가 이어서 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IssueFetchCoordinator {
+
+  private static final String LEASE_KEY_PREFIX = "IHL:";
+  private static final String LOCAL_ONLY = ""; // Redis 장애 시 노드 내 중복 제거만 적용
+
+  /**
+   * 임대 소유자인 경우에만 삭제 (만료 후 다른 노드가 획득한 임대는 유지)
+   */
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final BlockingTaskExecutor blockingTaskExecutor;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${issue.fetch.lease-millis:10000}")
+  private long leaseMillis; // Github 조회 + 저장 최대 소요 시간 이상으로 설정
+
+  @Value("${issue.fetch.poll-millis:100}")
+  private long pollMillis; // 다른 노드 조회 결과 확인 주기
+
+  private final Map<String, CompletableFuture<IssueResponse>> inFlight = new ConcurrentHashMap<>();
+  private Counter localCoalescedCounter;
+  private Counter remoteCoalescedCounter;
+  private Counter fetchCounter;
+
+  @PostConstruct
+  public void init() {
+    localCoalescedCounter = Counter.builder("issue.fetch.coalesced")
+        .description("진행 중인 조회 결과를 공유한 요청 수")
+        .tag("scope", "local")
+        .register(meterRegistry);
+    remoteCoalescedCounter = Counter.builder("issue.fetch.coalesced")
+        .description("진행 중인 조회 결과를 공유한 요청 수")
+        .tag("scope", "remote")
+        .register(meterRegistry);
+    fetchCounter = Counter.builder("issue.fetch.github")
+        .description("임대 획득 후 Github API 를 호출한 횟수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 이슈 조회 (동기)
+   *
+   * @param issueUrl 이슈 URL (single-flight key)
+   * @param lookup   저장된 결과 조회 (캐시, DB)
+   * @param fetch    Github API 호출 및 저장 (임대 획득 시에만 실행)
+   */
+  public IssueResponse execute(String issueUrl, Supplier<Optional<IssueResponse>> lookup, Supplier<IssueResponse> fetch) {
+    CompletableFuture<IssueResponse> flight = new CompletableFuture<>();
+    CompletableFuture<IssueResponse> existing = inFlight.putIfAbsent(issueUrl, flight);
+    if (existing != null) {
+      localCoalescedCounter.increment();
+      log.debug("진행 중인 이슈 조회 결과를 기다립니다: {}", issueUrl);
+      return join(existing);
+    }
+
+    try {
+      IssueResponse response = loadWithLease(issueUrl, lookup, fetch);
+      flight.complete(response);
+      return response;
+    } catch (RuntimeException e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(issueUrl, flight);
+    }
+  }
+
+  /**
+   * 이슈 조회 (비동기)
+   * lookup 은 블로킹 실행기에서 실행되고, 다른 노드 대기 중에는 스레드를 점유하지 않습니다.
+   */
+  public CompletableFuture<IssueResponse> executeAsync(String issueUrl, Supplier<Optional<IssueResponse>> lookup,
+      Supplier<CompletableFuture<IssueResponse>> fetch) {
+    CompletableFuture<IssueResponse> flight = new CompletableFuture<>();
+    CompletableFuture<IssueResponse> existing = inFlight.putIfAbsent(issueUrl, flight);
+    if (existing != null) {
+      localCoalescedCounter.increment();
+      log.debug("진행 중인 이슈 조회 결과를 기다립니다: {}", issueUrl);
+      return existing.copy(); // 대기 요청의 취소가 공유 future 에 전파되지 않도록 복사
+    }
+
+    long deadline = System.currentTimeMillis() + leaseMillis * 2;
+    loadWithLeaseAsync(issueUrl, lookup, fetch, deadline, false)
+        .whenComplete((response, throwable) -> {
+          inFlight.remove(issueUrl, flight);
+          if (throwable != null) {
+            flight.completeExceptionally(unwrap(throwable));
+          } else {
+            flight.complete(response);
+          }
+        });
+    return flight.copy();
+  }
+
+  private IssueResponse loadWithLease(String issueUrl, Supplier<Optional<IssueResponse>> lookup, Supplier<IssueResponse> fetch) {
+    long deadline = System.currentTimeMillis() + leaseMillis * 2;
+    boolean waiting = false;
+    while (true) {
+      LeaseAttempt attempt = attempt(issueUrl, lookup);
+      if (attempt.found() != null) {
+        return attempt.found();
+      }
+      if (attempt.owner() != null) {
+        try {
+          fetchCounter.increment();
+          return fetch.get();
+        } finally {
+          releaseLease(issueUrl, attempt.owner());
+        }
+      }
+
+      checkDeadline(issueUrl, deadline);
+      if (!waiting) {
+        remoteCoalescedCounter.increment();
+        waiting = true;
+      }
+      try {
+        Thread.sleep(pollMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CustomException(ErrorCode.GITHUB_ISSUE_PROCESSING_ERROR);
+      }
+    }
+  }
+
+  private CompletableFuture<IssueResponse> loadWithLeaseAsync(String issueUrl, Supplier<Optional<IssueResponse>> lookup,
+      Supplier<CompletableFuture<IssueResponse>> fetch, long deadline, boolean waiting) {
+    return blockingTaskExecutor.supplyAsync(() -> attempt(issueUrl, lookup))
+        .thenCompose(attempt -> {
+          if (attempt.found() != null) {
+            return CompletableFuture.completedFuture(attempt.found());
+          }
+          if (attempt.owner() != null) {
+            fetchCounter.increment();
+            return fetch.get()
+                .whenCompleteAsync((response, throwable) -> releaseLease(issueUrl, attempt.owner()),
+                    blockingTaskExecutor.executor()); // 이벤트 루프에서 Redis 호출 방지
+          }
+
+          checkDeadline(issueUrl, deadline);
+          if (!waiting) {
+            remoteCoalescedCounter.increment();
+          }
+          // 대기 후 재시도 제출은 supplyAsync 에서 처리 (대기열 초과 시 SERVER_BUSY 로 실패하도록 블로킹 실행기로 지연 실행하지 않음)
+          Executor delayed = CompletableFuture.delayedExecutor(pollMillis, TimeUnit.MILLISECONDS);
+          return CompletableFuture.runAsync(() -> {
+          }, delayed).thenCompose(ignored -> loadWithLeaseAsync(issueUrl, lookup, fetch, deadline, true));
+        });
+  }
+
+  /**
+   * 저장된 결과 조회 -> 없으면 임대 획득 시도
+   */
+  private LeaseAttempt attempt(String issueUrl, Supplier<Optional<IssueResponse>> lookup) {
+    Optional<IssueResponse> found = lookup.get();
+    if (found.isPresent()) {
+      return new LeaseAttempt(found.get(), null);
+    }
+
+    String owner = tryAcquireLease(issueUrl);
+    if (owner == null) {
+      return new LeaseAttempt(null, null);
+    }
+
+    // 임대 획득 직전에 다른 노드가 저장을 마쳤을 수 있으므로 재확인
+    found = lookup.get();
+    if (found.isPresent()) {
+      releaseLease(issueUrl, owner);
+      return new LeaseAttempt(found.get(), null);
+    }
+    return new LeaseAttempt(null, owner);
+  }
+
+  /**
+   * @return 임대 소유자 값, 다른 노드가 임대 중이면 null
+   */
+  private String tryAcquireLease(String issueUrl) {
+    String owner = UUID.randomUUID().toString();
+    try {
+      Boolean acquired = stringRedisTemplate.opsForValue()
+          .setIfAbsent(LEASE_KEY_PREFIX + issueUrl, owner, Duration.ofMillis(leaseMillis));
+      return Boolean.TRUE.equals(acquired) ? owner : null;
+    } catch (Exception e) {
+      log.error("이슈 조회 임대 획득 실패, 노드 내 중복 제거만 적용합니다: issueUrl={}, error={}", issueUrl, e.getMessage());
+      return LOCAL_ONLY;
+    }
+  }
+
+  private void releaseLease(String issueUrl, String owner) {
+    if (LOCAL_ONLY.equals(owner)) {
+      return;
+    }
+    try {
+      stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + issueUrl), owner);
+    } catch (Exception e) {
+      // 해제 실패 시 임대 만료 후 정리됨
+      log.error("이슈 조회 임대 해제 실패: issueUrl={}, error={}", issueUrl, e.getMessage());
+    }
+  }
+
+  private void checkDeadline(String issueUrl, long deadline) {
+    if (System.currentTimeMillis() > deadline) {
+      log.error("다른 노드의 이슈 조회 결과 대기 시간을 초과했습니다: {}", issueUrl);
+      throw new CustomException(ErrorCode.GITHUB_ISSUE_PROCESSING_ERROR);
+    }
+  }
+
+  private static IssueResponse join(CompletableFuture<IssueResponse> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException; // 조회한 요청과 동일한 예외 전달
+      }
+      throw e;
+    }
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+  }
+
+  /**
+   * @param found 저장된 결과 (있으면 조회 종료)
+   * @param owner 획득한 임대 소유자 값 (null 이면 다른 노드 대기)
+   */
+  private record LeaseAttempt(IssueResponse found, String owner) {
+
+  }
+}
@@ -1,50 +1,244 @@
 package com.chuseok22.lab.domain.github.issue.service;
 
+import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
 import com.chuseok22.lab.domain.github.api.dto.GithubIssueApiResponse;
 import com.chuseok22.lab.domain.github.api.service.GithubApiService;
 import com.chuseok22.lab.domain.github.issue.domain.IssueHelper;
+import com.chuseok22.lab.domain.github.issue.dto.IssueBatchItemResponse;
+import com.chuseok22.lab.domain.github.issue.dto.IssueBatchRequest;
 import com.chuseok22.lab.domain.github.issue.dto.IssueRequest;
 import com.chuseok22.lab.domain.github.issue.dto.IssueResponse;
 import com.chuseok22.lab.domain.github.issue.repository.IssueHelperRepository;
-import com.chuseok22.lab.domain.member.domain.Member;
 import com.chuseok22.lab.global.exception.CustomException;
 import com.chuseok22.lab.global.exception.ErrorCode;
-import com.chuseok22.lab.global.util.WebClientService;
+import com.chuseok22.lab.global.util.BlockingTaskExecutor;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class IssueHelperService {
 
-  private final WebClientService webClientService;
   private final IssueHelperRepository issueHelperRepository;
   private final GithubApiService githubApiService;
+  private final BlockingTaskExecutor blockingTaskExecutor;
+  private final IssueResponseCache issueResponseCache;
+  private final IssueFetchCoordinator issueFetchCoordinator;
+
+  @Value("${issue.batch.repository-concurrency:2}")
+  private int batchRepositoryConcurrency; // 동시에 처리하는 레포지토리 수
+
+  @Value("${issue.batch.per-repository-concurrency:4}")
+  private int batchPerRepositoryConcurrency; // 레포지토리당 동시 Github API 요청 수
 
   /**
    * 입력된 URL을 처리해 브랜치명과 커밋 케시지 반환
-   * 1. DB에서 URL조회
-   * 2. 있으면 DB 데이터 반환
-   * 3. 없으면 파싱 후 저장 및 반환
+   * 1. 캐시(로컬 -> Redis)에서 URL조회
+   * 2. 없으면 DB에서 URL조회
+   * 3. 있으면 DB 데이터 반환
+   * 4. 없으면 파싱 후 저장 및 반환 (같은 URL 동시 요청은 IssueFetchCoordinator 로 한 번만 조회/저장)
+   * 회원 정보는 Github API 호출이 필요한 경우에만 조회합니다.
    */
-  public IssueResponse processIssueHelper(Member member, IssueRequest request) {
+  public IssueResponse processIssueHelper(CustomUserDetails customUserDetails, IssueRequest request) {
 
     String issueUrl = request.getIssueUrl();
     String token = request.getGithubToken();
 
-    IssueHelper issueHelper = issueHelperRepository.findByIssueUrl(issueUrl);
-    if (issueHelper != null) {
-      log.debug("DB에서 기존 이슈 조회: {}", issueUrl);
-    } else {
+    Optional<IssueResponse> cached = issueResponseCache.find(issueUrl);
+    if (cached.isPresent()) {
+      log.debug("캐시에서 기존 이슈 조회: {}", issueUrl);
+      return cached.get();
+    }
+
+    return issueFetchCoordinator.execute(issueUrl, storedLookup(issueUrl), () -> {
       log.debug("새로운 URL 요청: {}", issueUrl);
       // Github API 호출
-      GithubIssueApiResponse githubIssueApiResponse = githubApiService.fetchIssue(member, issueUrl, token);
-      issueHelper = parseIssue(githubIssueApiResponse);
+      GithubIssueApiResponse githubIssueApiResponse = githubApiService.fetchIssue(customUserDetails.getMember(), issueUrl, token);
+      return store(issueUrl, save(parseIssue(githubIssueApiResponse)));
+    });
+  }
+
+  /**
+   * processIssueHelper 비동기 버전
+   * DB 조회/저장은 블로킹 실행기에서, Github API 대기는 WebClient 이벤트 루프에서 처리하여
+   * 네트워크 대기 중에는 요청 스레드와 작업 스레드를 점유하지 않습니다.
+   */
+  public CompletableFuture<IssueResponse> processIssueHelperAsync(CustomUserDetails customUserDetails, IssueRequest request) {
+    String token = request.getGithubToken();
+    return processAsync(request.getIssueUrl(), () -> blockingTaskExecutor.supplyAsync(
+        () -> githubApiService.resolveToken(customUserDetails.getMember(), token)));
+  }
+
+  /**
+   * 여러 이슈 일괄 처리 (완료되는 순서대로 반환)
+   * 레포지토리별로 묶어 레포지토리 동시 처리 수 x 레포지토리당 동시 요청 수 이내로 Github API 를 호출합니다.
+   * 같은 토큰의 다른 요청과 합산한 동시 요청 수는 GithubHttpClient 에서 토큰별로 제한합니다.
+   * 토큰 조회/저장은 Github API 호출이 필요한 경우에만 1회 수행하고, 이슈별 오류는 해당 항목의 결과로 반환합니다.
+   */
+  public Flux<IssueBatchItemResponse> processIssueHelperBatch(CustomUserDetails customUserDetails, IssueBatchRequest request) {
+    Supplier<CompletableFuture<String>> token = memoize(() -> blockingTaskExecutor.supplyAsync(
+        () -> githubApiService.resolveToken(customUserDetails.getMember(), request.getGithubToken())));
+
+    Map<String, List<String>> issueUrlsByRepository = request.getIssueUrls().stream()
+        .distinct()
+        .collect(Collectors.groupingBy(this::extractRepository, LinkedHashMap::new, Collectors.toList()));
+    log.debug("Issue 일괄 처리 요청: 이슈 {}건, 레포지토리 {}개", request.getIssueUrls().size(), issueUrlsByRepository.size());
+
+    return Flux.fromIterable(issueUrlsByRepository.values())
+        .flatMap(issueUrls -> Flux.fromIterable(issueUrls)
+                .flatMap(issueUrl -> processBatchItem(issueUrl, token), batchPerRepositoryConcurrency),
+            batchRepositoryConcurrency);
+  }
+
+  private Mono<IssueBatchItemResponse> processBatchItem(String issueUrl, Supplier<CompletableFuture<String>> token) {
+    return Mono.fromFuture(() -> processAsync(issueUrl, token))
+        .map(response -> IssueBatchItemResponse.builder()
+            .issueUrl(issueUrl)
+            .branchName(response.branchName())
+            .commitMessage(response.commitMessage())
+            .build())
+        .onErrorResume(throwable -> {
+          Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+              ? throwable.getCause() : throwable;
+          ErrorCode errorCode = cause instanceof CustomException customException
+              ? customException.getErrorCode() : ErrorCode.GITHUB_ISSUE_PROCESSING_ERROR;
+          log.warn("Issue 일괄 처리 중 오류: issueUrl={}, errorCode={}", issueUrl, errorCode);
+          return Mono.just(IssueBatchItemResponse.builder()
+              .issueUrl(issueUrl)
+              .errorCode(errorCode.name())
+              .errorMessage(errorCode.getMessage())
+              .build());
+        });
+  }
+
+  // 캐시 -> 저장된 결과 -> Github API 순서로 조회 (token 은 Github API 호출 시에만 요청)
+  // 로컬 캐시는 요청 스레드에서 바로 확인하고, Redis/DB 조회부터 블로킹 실행기에서 처리합니다.
+  private CompletableFuture<IssueResponse> processAsync(String issueUrl, Supplier<CompletableFuture<String>> token) {
+    Optional<IssueResponse> local = issueResponseCache.findLocal(issueUrl);
+    if (local.isPresent()) {
+      log.debug("로컬 캐시에서 기존 이슈 조회: {}", issueUrl);
+      return CompletableFuture.completedFuture(local.get());
     }
+
+    return blockingTaskExecutor.supplyAsync(() -> issueResponseCache.findShared(issueUrl))
+        .thenCompose(cached -> {
+          if (cached.isPresent()) {
+            log.debug("캐시에서 기존 이슈 조회: {}", issueUrl);
+            return CompletableFuture.completedFuture(cached.get());
+          }
+          return issueFetchCoordinator.executeAsync(issueUrl, storedLookup(issueUrl), () -> {
+            log.debug("새로운 URL 요청: {}", issueUrl);
+            return token.get()
+                .thenCompose(resolvedToken -> githubApiService.fetchIssueAsync(issueUrl, resolvedToken))
+                .thenApplyAsync(response -> store(issueUrl, save(parseIssue(response))),
+                    blockingTaskExecutor.executor()); // 이벤트 루프에서 DB, Redis 저장 방지
+          });
+        });
+  }
+
+  /**
+   * IssueFetchCoordinator 에 전달할 저장된 결과 조회
+   * 첫 호출은 호출 직전에 확인한 캐시를 건너뛰고 DB 만 조회하며,
+   * 이후 호출(임대 획득 후 재확인, 다른 노드 대기 중 반복 조회)은 캐시부터 다시 조회합니다.
+   */
+  private Supplier<Optional<IssueResponse>> storedLookup(String issueUrl) {
+    AtomicBoolean cacheChecked = new AtomicBoolean(true);
+    return () -> findStored(issueUrl, !cacheChecked.getAndSet(false));
+  }
+
+  /**
+   * 저장된 결과 조회 (캐시 -> DB)
+   *
+   * @param checkCache false 인 경우 이미 확인한 캐시를 건너뛰고 DB 만 조회
+   */
+  private Optional<IssueResponse> findStored(String issueUrl, boolean checkCache) {
+    if (checkCache) {
+      Optional<IssueResponse> cached = issueResponseCache.find(issueUrl);
+      if (cached.isPresent()) {
+        return cached;
+      }
+    }
+    IssueHelper issueHelper = issueHelperRepository.findByIssueUrl(issueUrl);
+    if (issueHelper == null) {
+      return Optional.empty();
+    }
+    log.debug("DB에서 기존 이슈 조회: {}", issueUrl);
+    return Optional.of(store(issueUrl, issueHelper));
+  }
+
+  // 응답 변환 후 캐시 저장
+  private IssueResponse store(String issueUrl, IssueHelper issueHelper) {
+    IssueResponse response = toIssueResponse(issueHelper);
+    issueResponseCache.put(issueUrl, response);
+    return response;
+  }
+
+  /**
+   * 파싱 결과 저장
+   * 임대 만료, Redis 장애 시 노드 내 조회(LOCAL_ONLY) 등으로 같은 URL 이 동시에 저장되면
+   * issueUrl 유니크 제약 위반이 발생하므로, 먼저 저장된 행을 다시 조회하여 반환합니다.
+   */
+  private IssueHelper save(IssueHelper issueHelper) {
+    try {
+      return issueHelperRepository.save(issueHelper);
+    } catch (DataIntegrityViolationException e) {
+      IssueHelper existing = issueHelperRepository.findByIssueUrl(issueHelper.getIssueUrl());
+      if (existing == null) {
+        log.error("Issue 저장 실패: issueUrl={}, error={}", issueHelper.getIssueUrl(), e.getMessage());
+        throw new CustomException(ErrorCode.GITHUB_ISSUE_SAVE_ERROR);
+      }
+      log.debug("다른 요청이 먼저 저장한 이슈 조회: {}", issueHelper.getIssueUrl());
+      return existing;
+    }
+  }
+
+  // https://github.com/owner/repo/issues/123 -> owner/repo
+  private String extractRepository(String issueUrl) {
+    String[] path = issueUrl.replaceFirst("^https?://github\\.com/", "").split("/", 3);
+    return path.length >= 2 ? path[0] + "/" + path[1] : issueUrl;
+  }
+
+  // 최초 호출 시에만 실행하고 이후에는 같은 future 반환
+  private static <T> Supplier<CompletableFuture<T>> memoize(Supplier<CompletableFuture<T>> supplier) {
+    AtomicReference<CompletableFuture<T>> memo = new AtomicReference<>();
+    return () -> {
+      CompletableFuture<T> current = memo.get();
+      if (current != null) {
+        return current;
+      }
+      CompletableFuture<T> created = new CompletableFuture<>();
+      if (memo.compareAndSet(null, created)) {
+        supplier.get().whenComplete((value, throwable) -> {
+          if (throwable != null) {
+            created.completeExceptionally(throwable);
+          } else {
+            created.complete(value);
+          }
+        });
+      }
+      return memo.get();
+    };
+  }
+
+  private IssueResponse toIssueResponse(IssueHelper issueHelper) {
     return IssueResponse.builder()
         .branchName(issueHelper.getBranchName())
         .commitMessage(issueHelper.getCommitMessage())
@@ -52,7 +246,7 @@ public class IssueHelperService {
   }
 
   /**
-   * 사용자로부터 URL을 입력 받아 브랜치 명, 커밋 메시지를 생성 후 저장
+   * 사용자로부터 URL을 입력 받아 브랜치 명, 커밋 메시지를 생성
    *
    * @param response title, issueUrl
    * @return branchName, commitMessage
@@ -81,8 +275,8 @@ public class IssueHelperService {
           .commitMessage(commitMessage)
           .build();
 
-      log.debug("Issue 파싱 및 저장 성공: {}", issueHelper.getIssueUrl());
-      return issueHelperRepository.save(issueHelper);
+      log.debug("Issue 파싱 성공: {}", issueHelper.getIssueUrl());
+      return issueHelper;
     } catch (Exception e) {
       log.error("Issue 파싱중 오류 발생: {}", e.getMessage());
       throw new CustomException(ErrorCode.GITHUB_ISSUE_PARSING_ERROR);
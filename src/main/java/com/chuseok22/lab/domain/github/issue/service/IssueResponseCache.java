@@ -0,0 +1,156 @@
+package com.chuseok22.lab.domain.github.issue.service;
+
+import com.chuseok22.lab.domain.github.issue.dto.IssueResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Issue Helper 결과 2단계 캐시 (read-through)
+ * L1: 노드별 Caffeine (크기 + TTL 제한), L2: 노드 간 공유 Redis (key: IH:issueUrl)
+ * 이슈 URL 별 결과는 생성 후 변경되지 않으므로 무효화 없이 TTL 만으로 관리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IssueResponseCache {
+
+  private static final String CACHE_NAME = "issueResponse";
+  private static final String KEY_PREFIX = "IH:";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${issue.cache.enabled:true}")
+  private boolean enabled;
+
+  @Value("${issue.cache.local.max-size:10000}")
+  private long localMaxSize;
+
+  @Value("${issue.cache.local.ttl-seconds:300}")
+  private long localTtlSeconds;
+
+  @Value("${issue.cache.redis.ttl-seconds:86400}")
+  private long redisTtlSeconds;
+
+  private Cache<String, IssueResponse> localCache;
+  private final LongAdder redisHits = new LongAdder();
+  private final LongAdder redisMisses = new LongAdder();
+
+  @PostConstruct
+  public void init() {
+    localCache = Caffeine.newBuilder()
+        .maximumSize(localMaxSize)
+        .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+        .recordStats()
+        .build();
+
+    // L1: cache.gets, cache.evictions
+    CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+
+    // L2: L1 미스 후 Redis 조회 결과
+    FunctionCounter.builder("issue.cache.redis.gets", redisHits, LongAdder::sum)
+        .tag("result", "hit")
+        .register(meterRegistry);
+    FunctionCounter.builder("issue.cache.redis.gets", redisMisses, LongAdder::sum)
+        .tag("result", "miss")
+        .register(meterRegistry);
+
+    // 단계별 적중률
+    Gauge.builder("issue.cache.hit.ratio", this, cache -> cache.localCache.stats().hitRate())
+        .tag("tier", "local")
+        .register(meterRegistry);
+    Gauge.builder("issue.cache.hit.ratio", this, IssueResponseCache::redisHitRate)
+        .tag("tier", "redis")
+        .register(meterRegistry);
+  }
+
+  /**
+   * L1 -> L2 순서로 조회, L2 적중 시 L1 에 저장
+   * Redis 장애 시 미스로 처리하여 DB 조회로 진행합니다.
+   */
+  public Optional<IssueResponse> find(String issueUrl) {
+    Optional<IssueResponse> local = findLocal(issueUrl);
+    return local.isPresent() ? local : findShared(issueUrl);
+  }
+
+  /**
+   * L1 만 조회 (네트워크 호출 없음, 요청 스레드에서 바로 호출 가능)
+   */
+  public Optional<IssueResponse> findLocal(String issueUrl) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(localCache.getIfPresent(issueUrl));
+  }
+
+  /**
+   * L2 만 조회, 적중 시 L1 에 저장 (Redis 호출이 있으므로 블로킹 실행기에서 호출)
+   */
+  public Optional<IssueResponse> findShared(String issueUrl) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+
+    IssueResponse shared = readRedis(issueUrl);
+    if (shared == null) {
+      redisMisses.increment();
+      return Optional.empty();
+    }
+    redisHits.increment();
+    localCache.put(issueUrl, shared);
+    return Optional.of(shared);
+  }
+
+  /**
+   * L1, L2 모두 저장
+   */
+  public void put(String issueUrl, IssueResponse response) {
+    if (!enabled) {
+      return;
+    }
+    localCache.put(issueUrl, response);
+    try {
+      stringRedisTemplate.opsForValue().set(
+          KEY_PREFIX + issueUrl,
+          objectMapper.writeValueAsString(response),
+          Duration.ofSeconds(redisTtlSeconds));
+    } catch (Exception e) {
+      log.error("Issue Helper 캐시 Redis 저장 실패: issueUrl={}, error={}", issueUrl, e.getMessage());
+    }
+  }
+
+  private IssueResponse readRedis(String issueUrl) {
+    try {
+      String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + issueUrl);
+      return json != null ? objectMapper.readValue(json, IssueResponse.class) : null;
+    } catch (JsonProcessingException e) {
+      log.error("Issue Helper 캐시 역직렬화 실패: issueUrl={}, error={}", issueUrl, e.getMessage());
+      return null;
+    } catch (Exception e) {
+      log.error("Issue Helper 캐시 Redis 조회 실패: issueUrl={}, error={}", issueUrl, e.getMessage());
+      return null;
+    }
+  }
+
+  private double redisHitRate() {
+    long hits = redisHits.sum();
+    long total = hits + redisMisses.sum();
+    return total == 0 ? 0.0 : (double) hits / total;
+  }
+}
@@ -0,0 +1,49 @@
+package com.chuseok22.lab.domain.member.controller;
+
+import com.chuseok22.lab.domain.member.dto.BulkJoinResponse;
+import com.chuseok22.lab.domain.member.service.MemberBulkJoinService;
+import com.chuseok22.lab.global.aspect.LogMonitoringInvocation;
+import com.chuseok22.lab.global.exception.CustomException;
+import com.chuseok22.lab.global.exception.ErrorCode;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/members")
+@Slf4j
+@Tag(
+    name = "관리자 회원 API",
+    description = "관리자용 회원 관리 API 제공"
+)
+public class MemberAdminController implements MemberAdminControllerDocs {
+
+  private static final String TEXT_CSV_VALUE = "text/csv";
+
+  private final MemberBulkJoinService memberBulkJoinService;
+
+  @Override
+  @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, TEXT_CSV_VALUE})
+  @LogMonitoringInvocation
+  public ResponseEntity<BulkJoinResponse> bulkJoin(HttpServletRequest request) {
+    // 요청 Body 를 객체로 변환하지 않고 스트리밍으로 처리
+    try {
+      MediaType contentType = MediaType.parseMediaType(request.getContentType());
+      if (contentType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+        return ResponseEntity.ok(memberBulkJoinService.joinFromJson(request.getInputStream()));
+      }
+      return ResponseEntity.ok(memberBulkJoinService.joinFromCsv(request.getInputStream()));
+    } catch (IOException e) {
+      log.error("일괄 가입 요청 Body 읽기 실패: {}", e.getMessage());
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+  }
+}
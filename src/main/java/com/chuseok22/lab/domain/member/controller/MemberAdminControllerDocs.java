@@ -0,0 +1,29 @@
+package com.chuseok22.lab.domain.member.controller;
+
+import com.chuseok22.lab.domain.member.dto.BulkJoinResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+
+public interface MemberAdminControllerDocs {
+
+  @Operation(
+      summary = "일괄 회원가입",
+      description = """
+          
+          인증: `필요` (관리자)
+          
+          ### 요청 파라미터 (Body)
+          - `application/json`: [{"username", "password", "nickname"}, ...]
+          - `text/csv`: username,password,nickname (첫 줄 헤더 선택, 따옴표 미지원)
+          
+          ### 사용 방법
+          - 요청 Body 를 스트리밍으로 읽어 청크 단위로 중복 확인, 비밀번호 해시, 저장합니다.
+          
+          ### 유의사항
+          - results: 행 번호(1부터)별 처리 결과 (CREATED, INVALID, DUPLICATE_USERNAME, DUPLICATE_NICKNAME, FAILED)
+          - 저장 실패 시 해당 청크의 행만 FAILED 처리됩니다.
+          """
+  )
+  ResponseEntity<BulkJoinResponse> bulkJoin(HttpServletRequest request);
+}
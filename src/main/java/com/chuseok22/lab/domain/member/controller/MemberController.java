@@ -28,6 +28,6 @@ public class MemberController implements MemberControllerDocs{
   @LogMonitoringInvocation
   public ResponseEntity<MemberInfoResponse> getMemberInfo(
       @AuthenticationPrincipal CustomUserDetails customUserDetails) {
-    return ResponseEntity.ok(memberService.getMemberInfo(customUserDetails.getMember()));
+    return ResponseEntity.ok(memberService.getMemberInfo(customUserDetails));
   }
 }
@@ -0,0 +1,23 @@
+package com.chuseok22.lab.domain.member.domain;
+
+import com.chuseok22.lab.domain.auth.service.MemberAvailabilityIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Member 저장/변경 시 아이디/닉네임을 가용성 인덱스에 추가
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberAvailabilityListener {
+
+  private final MemberAvailabilityIndex memberAvailabilityIndex;
+
+  @PostPersist
+  @PostUpdate
+  public void add(Member member) {
+    memberAvailabilityIndex.add(member.getUsername(), member.getNickname());
+  }
+}
@@ -0,0 +1,34 @@
+package com.chuseok22.lab.domain.member.domain;
+
+import com.chuseok22.lab.domain.auth.service.MemberDetailsCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Member 변경(권한, 비밀번호, 아이디 등)/삭제 시 전체 노드의 회원 캐시 무효화
+ * 변경 전(flush 직전)과 변경 후 모두 memberId 기준으로 제거하여 이전 아이디로 저장된 항목도 남기지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberCacheEvictListener {
+
+  private final MemberDetailsCache memberDetailsCache;
+
+  @PreUpdate
+  @PreRemove
+  public void evictBefore(Member member) {
+    if (member.getMemberId() != null) {
+      memberDetailsCache.evictLocal(member.getMemberId(), member.getUsername());
+    }
+  }
+
+  @PostUpdate
+  @PostRemove
+  public void evict(Member member) {
+    memberDetailsCache.evictAll(member.getMemberId(), member.getUsername());
+  }
+}
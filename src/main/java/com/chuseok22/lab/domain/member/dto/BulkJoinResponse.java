@@ -0,0 +1,9 @@
+package com.chuseok22.lab.domain.member.dto;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record BulkJoinResponse(long total, long created, long failed, long elapsedMillis, List<BulkJoinRowResult> results) {
+
+}
@@ -0,0 +1,9 @@
+package com.chuseok22.lab.domain.member.dto;
+
+import com.chuseok22.lab.domain.member.vo.BulkJoinStatus;
+import lombok.Builder;
+
+@Builder
+public record BulkJoinRowResult(long row, String username, BulkJoinStatus status) {
+
+}
@@ -0,0 +1,11 @@
+package com.chuseok22.lab.domain.member.dto;
+
+/**
+ * 회원 아이디, 닉네임 projection (가용성 인덱스 적재용)
+ */
+public interface MemberNameView {
+
+  String getUsername();
+
+  String getNickname();
+}
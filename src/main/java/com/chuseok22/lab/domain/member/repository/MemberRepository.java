@@ -1,9 +1,15 @@
 package com.chuseok22.lab.domain.member.repository;
 
 import com.chuseok22.lab.domain.member.domain.Member;
+import com.chuseok22.lab.domain.member.dto.MemberNameView;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, UUID> {
 
@@ -12,4 +18,12 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
   Boolean existsByUsername(String username);
 
   Boolean existsByNickname(String nickname);
+
+  @Query("select m.username as username, m.nickname as nickname from Member m")
+  Stream<MemberNameView> streamAllNames();
+
+  @Query("select m.username as username, m.nickname as nickname from Member m"
+      + " where m.username in :usernames or m.nickname in :nicknames")
+  List<MemberNameView> findNamesIn(@Param("usernames") Collection<String> usernames,
+      @Param("nicknames") Collection<String> nicknames);
 }
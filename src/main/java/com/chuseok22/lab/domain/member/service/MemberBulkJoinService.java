@@ -0,0 +1,304 @@
+package com.chuseok22.lab.domain.member.service;
+
+import com.chuseok22.lab.domain.auth.dto.JoinRequest;
+import com.chuseok22.lab.domain.auth.service.MemberAvailabilityIndex;
+import com.chuseok22.lab.domain.member.dto.BulkJoinResponse;
+import com.chuseok22.lab.domain.member.dto.BulkJoinRowResult;
+import com.chuseok22.lab.domain.member.dto.MemberNameView;
+import com.chuseok22.lab.domain.member.repository.MemberRepository;
+import com.chuseok22.lab.domain.member.vo.BulkJoinStatus;
+import com.chuseok22.lab.domain.member.vo.Role;
+import com.chuseok22.lab.global.exception.CustomException;
+import com.chuseok22.lab.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관리자 일괄 회원가입
+ * 요청 Body(JSON 배열 또는 CSV)를 스트리밍으로 읽어 청크 단위로 처리합니다.
+ * 1. 청크당 1회 집합 조회로 아이디/닉네임 중복 확인
+ * 2. 비밀번호 해시는 크기 제한 스레드 풀에서 병렬 처리
+ * 3. JDBC batch insert (청크당 1 트랜잭션)
+ *    조회 이후 다른 요청이 같은 아이디로 가입하여 batch 가 실패하면, 해당 청크만 행 단위로 다시 저장하여 행별 결과를 기록합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberBulkJoinService {
+
+  private static final String INSERT_SQL = """
+      insert into member (member_id, username, password, nickname, role, created_date, updated_date)
+      values (?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private final MemberRepository memberRepository;
+  private final MemberAvailabilityIndex memberAvailabilityIndex;
+  private final BCryptPasswordEncoder bCryptPasswordEncoder;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Value("${member.bulk.chunk-size:1000}")
+  private int chunkSize;
+
+  @Value("${member.bulk.hash-threads:0}")
+  private int hashThreads; // 0: CPU 코어 수의 절반 (로그인 검증 몫 보장)
+
+  private ExecutorService hashExecutor;
+
+  @PostConstruct
+  public void init() {
+    int poolSize = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    hashExecutor = Executors.newFixedThreadPool(poolSize);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    hashExecutor.shutdown();
+  }
+
+  /**
+   * JSON 배열 일괄 가입 ([{"username", "password", "nickname"}, ...])
+   */
+  public BulkJoinResponse joinFromJson(InputStream inputStream) {
+    BulkJoinContext context = new BulkJoinContext();
+    try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new CustomException(ErrorCode.INVALID_REQUEST);
+      }
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        context.add(objectMapper.readValue(parser, JoinRequest.class));
+      }
+    } catch (IOException e) {
+      log.error("일괄 가입 JSON 파싱 중 오류 발생: {}", e.getMessage());
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+    return context.finish();
+  }
+
+  /**
+   * CSV 일괄 가입 (username,password,nickname / 첫 줄 헤더 허용, 따옴표 미지원)
+   */
+  public BulkJoinResponse joinFromCsv(InputStream inputStream) {
+    BulkJoinContext context = new BulkJoinContext();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+      String line;
+      boolean first = true;
+      while ((line = reader.readLine()) != null) {
+        if (first && line.replace("\uFEFF", "").trim().equalsIgnoreCase("username,password,nickname")) {
+          first = false;
+          continue;
+        }
+        first = false;
+        if (line.isBlank()) {
+          continue;
+        }
+        String[] columns = line.split(",", -1);
+        context.add(JoinRequest.builder()
+            .username(column(columns, 0))
+            .password(column(columns, 1))
+            .nickname(column(columns, 2))
+            .build());
+      }
+    } catch (IOException e) {
+      log.error("일괄 가입 CSV 읽기 중 오류 발생: {}", e.getMessage());
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+    return context.finish();
+  }
+
+  private static String column(String[] columns, int index) {
+    return index < columns.length ? columns[index].trim() : null;
+  }
+
+  /**
+   * 요청 1건의 진행 상태 (요청 내 중복 확인, 청크 버퍼, 행별 결과)
+   */
+  private class BulkJoinContext {
+
+    private final long startNanos = System.nanoTime();
+    private final Set<String> seenUsernames = new HashSet<>();
+    private final Set<String> seenNicknames = new HashSet<>();
+    private final List<BulkJoinRowResult> results = new ArrayList<>();
+    private final List<PendingRow> chunk = new ArrayList<>();
+    private long row;
+    private long created;
+
+    private void add(JoinRequest request) {
+      row++;
+      String username = request.getUsername();
+      String nickname = request.getNickname();
+      if (isBlank(username) || isBlank(request.getPassword()) || isBlank(nickname)) {
+        results.add(result(row, username, BulkJoinStatus.INVALID));
+      } else if (!seenUsernames.add(username)) {
+        results.add(result(row, username, BulkJoinStatus.DUPLICATE_USERNAME));
+      } else if (!seenNicknames.add(nickname)) {
+        results.add(result(row, username, BulkJoinStatus.DUPLICATE_NICKNAME));
+      } else {
+        chunk.add(new PendingRow(row, request));
+        if (chunk.size() >= chunkSize) {
+          flush();
+        }
+      }
+    }
+
+    private BulkJoinResponse finish() {
+      flush();
+      results.sort((a, b) -> Long.compare(a.row(), b.row()));
+      long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+      log.info("일괄 가입 완료: 전체 {}건, 가입 {}건, {}ms", row, created, elapsedMillis);
+      return BulkJoinResponse.builder()
+          .total(row)
+          .created(created)
+          .failed(row - created)
+          .elapsedMillis(elapsedMillis)
+          .results(results)
+          .build();
+    }
+
+    private void flush() {
+      if (chunk.isEmpty()) {
+        return;
+      }
+      List<PendingRow> rows = excludeExisting(List.copyOf(chunk));
+      chunk.clear();
+      if (rows.isEmpty()) {
+        return;
+      }
+
+      // 비밀번호 병렬 해시
+      List<CompletableFuture<String>> hashes = rows.stream()
+          .map(pending -> CompletableFuture.supplyAsync(
+              () -> bCryptPasswordEncoder.encode(pending.request().getPassword()), hashExecutor))
+          .toList();
+
+      List<HashedRow> hashedRows = new ArrayList<>(rows.size());
+      for (int i = 0; i < rows.size(); i++) {
+        hashedRows.add(new HashedRow(rows.get(i), hashes.get(i).join()));
+      }
+
+      try {
+        insert(hashedRows);
+        hashedRows.forEach(hashed -> onCreated(hashed.pending()));
+      } catch (DataAccessException e) {
+        log.warn("일괄 가입 batch 저장 실패, 행 단위로 다시 저장합니다: {}건, error={}", rows.size(), e.getMessage());
+        hashedRows.forEach(this::insertRow);
+      }
+    }
+
+    // 행 단위 저장 (batch 실패 시, 실패 원인이 된 행만 해당 사유로 기록)
+    private void insertRow(HashedRow hashed) {
+      PendingRow pending = hashed.pending();
+      Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+      try {
+        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, hashed, now));
+        onCreated(pending);
+      } catch (DuplicateKeyException e) {
+        results.add(result(pending.row(), pending.request().getUsername(), BulkJoinStatus.DUPLICATE_USERNAME));
+      } catch (DataAccessException e) {
+        log.error("일괄 가입 저장 실패: row={}, error={}", pending.row(), e.getMessage());
+        results.add(result(pending.row(), pending.request().getUsername(), BulkJoinStatus.FAILED));
+      }
+    }
+
+    private void onCreated(PendingRow pending) {
+      memberAvailabilityIndex.add(pending.request().getUsername(), pending.request().getNickname());
+      results.add(result(pending.row(), pending.request().getUsername(), BulkJoinStatus.CREATED));
+      created++;
+    }
+
+    // 청크당 1회 집합 조회로 이미 사용 중인 아이디/닉네임 제외
+    private List<PendingRow> excludeExisting(List<PendingRow> rows) {
+      Set<String> usernames = new HashSet<>();
+      Set<String> nicknames = new HashSet<>();
+      rows.forEach(pending -> {
+        usernames.add(pending.request().getUsername());
+        nicknames.add(pending.request().getNickname());
+      });
+
+      Set<String> takenUsernames = new HashSet<>();
+      Set<String> takenNicknames = new HashSet<>();
+      for (MemberNameView name : memberRepository.findNamesIn(usernames, nicknames)) {
+        takenUsernames.add(name.getUsername());
+        takenNicknames.add(name.getNickname());
+      }
+
+      List<PendingRow> available = new ArrayList<>(rows.size());
+      for (PendingRow pending : rows) {
+        if (takenUsernames.contains(pending.request().getUsername())) {
+          results.add(result(pending.row(), pending.request().getUsername(), BulkJoinStatus.DUPLICATE_USERNAME));
+        } else if (takenNicknames.contains(pending.request().getNickname())) {
+          results.add(result(pending.row(), pending.request().getUsername(), BulkJoinStatus.DUPLICATE_NICKNAME));
+        } else {
+          available.add(pending);
+        }
+      }
+      return available;
+    }
+
+    private void insert(List<HashedRow> rows) {
+      Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+      transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(),
+          (ps, hashed) -> bind(ps, hashed, now)));
+    }
+
+    private void bind(PreparedStatement ps, HashedRow hashed, Timestamp now) throws SQLException {
+      ps.setObject(1, UUID.randomUUID());
+      ps.setString(2, hashed.pending().request().getUsername());
+      ps.setString(3, hashed.encodedPassword());
+      ps.setString(4, hashed.pending().request().getNickname());
+      ps.setString(5, Role.ROLE_USER.name());
+      ps.setTimestamp(6, now);
+      ps.setTimestamp(7, now);
+    }
+  }
+
+  private static BulkJoinRowResult result(long row, String username, BulkJoinStatus status) {
+    return BulkJoinRowResult.builder()
+        .row(row)
+        .username(username)
+        .status(status)
+        .build();
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+
+  private record PendingRow(long row, JoinRequest request) {
+
+  }
+
+  private record HashedRow(PendingRow pending, String encodedPassword) {
+
+  }
+}
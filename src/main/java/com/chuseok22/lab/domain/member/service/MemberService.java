@@ -1,11 +1,10 @@
 package com.chuseok22.lab.domain.member.service;
 
-import com.chuseok22.lab.domain.member.domain.Member;
+import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
 import com.chuseok22.lab.domain.member.dto.MemberInfoResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -14,11 +13,11 @@ public class MemberService {
 
   /**
    * 사용자 정보 반환
+   * principal 정보만 사용하므로 DB를 조회하지 않습니다.
    */
-  @Transactional(readOnly = true)
-  public MemberInfoResponse getMemberInfo(Member member) {
+  public MemberInfoResponse getMemberInfo(CustomUserDetails customUserDetails) {
     return MemberInfoResponse.builder()
-        .username(member.getUsername())
+        .username(customUserDetails.getUsername())
         .build();
   }
 }
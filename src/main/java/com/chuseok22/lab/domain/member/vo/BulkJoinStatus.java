@@ -0,0 +1,12 @@
+package com.chuseok22.lab.domain.member.vo;
+
+/**
+ * 일괄 회원가입 행 처리 결과
+ */
+public enum BulkJoinStatus {
+  CREATED, // 가입 완료
+  INVALID, // 필수 값 누락
+  DUPLICATE_USERNAME, // 이미 사용 중이거나 요청 내 중복된 아이디
+  DUPLICATE_NICKNAME, // 이미 사용 중이거나 요청 내 중복된 닉네임
+  FAILED // 저장 실패
+}
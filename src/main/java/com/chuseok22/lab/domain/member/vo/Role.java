@@ -6,6 +6,22 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum Role {
-  ROLE_USER,
-  ROLE_ADMIN
+  ROLE_USER(0),
+  ROLE_ADMIN(1);
+
+  private final int code; // 축약 클레임 코드
+
+  /**
+   * 축약 클레임 코드에 해당하는 권한 반환
+   *
+   * @return 일치하는 권한이 없으면 null
+   */
+  public static Role fromCode(Integer code) {
+    for (Role role : values()) {
+      if (code != null && role.code == code) {
+        return role;
+      }
+    }
+    return null;
+  }
 }
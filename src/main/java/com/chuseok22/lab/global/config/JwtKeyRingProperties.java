@@ -0,0 +1,47 @@
+package com.chuseok22.lab.global.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 서명 키 링 설정 (jwt.key-ring)
+ */
+@Component
+@ConfigurationProperties(prefix = "jwt.key-ring")
+@Getter
+@Setter
+public class JwtKeyRingProperties {
+
+  /**
+   * 서명 알고리즘: HS256 (jwt.secret-key 사용) | ES256 (키 링 사용)
+   */
+  private String algorithm = "HS256";
+
+  /**
+   * 신규 토큰 서명에 사용할 키 id (ES256)
+   */
+  private String activeKid;
+
+  /**
+   * ES256 사용 중에도 기존 HMAC 서명 토큰 검증 허용 여부 (전환 기간용)
+   */
+  private boolean acceptLegacyHmac = true;
+
+  /**
+   * 키 목록 (교체된 키는 publicKey 만 남겨 만료 전 토큰을 계속 검증)
+   */
+  private List<Key> keys = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class Key {
+
+    private String kid;
+    private String privateKey; // Base64 PKCS#8 (서명 키인 경우에만 필요)
+    private String publicKey; // Base64 X.509
+  }
+}
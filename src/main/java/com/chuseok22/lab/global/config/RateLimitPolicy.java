@@ -0,0 +1,34 @@
+package com.chuseok22.lab.global.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청 제한 대상 경로
+ * 정책별 한도는 RateLimitProperties(auth.rate-limit.policies) 에서 설정하며,
+ * 노드 로컬 토큰 버킷과 Redis 슬라이딩 윈도우(전체 노드 합산)에 같은 한도를 적용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum RateLimitPolicy {
+  LOGIN("/api/auth/login"), // 로그인 (BCrypt 검증)
+  JOIN("/api/auth/join"), // 회원가입 (BCrypt 해시 + 중복 조회)
+  VALIDATE_USERNAME("/api/auth/validate/username"), // 아이디 중복 검증
+  VALIDATE_NICKNAME("/api/auth/validate/nickname"); // 닉네임 중복 검증
+
+  private final String path;
+
+  /**
+   * 요청 경로에 해당하는 정책 반환
+   *
+   * @return 제한 대상이 아니면 null
+   */
+  public static RateLimitPolicy fromPath(String path) {
+    for (RateLimitPolicy policy : values()) {
+      if (policy.path.equals(path)) {
+        return policy;
+      }
+    }
+    return null;
+  }
+}
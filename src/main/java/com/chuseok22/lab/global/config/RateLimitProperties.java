@@ -0,0 +1,53 @@
+package com.chuseok22.lab.global.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 경로 요청 제한 설정 (auth.rate-limit)
+ */
+@Component
+@ConfigurationProperties(prefix = "auth.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+  /**
+   * 로그인 아이디 추출을 위해 읽는 요청 Body 최대 크기 (초과 시 413)
+   */
+  private int maxBodyBytes = 8192;
+
+  /**
+   * 정책별 한도 (설정하지 않은 정책은 아래 기본값 사용)
+   */
+  private Map<RateLimitPolicy, Limit> policies = new EnumMap<>(Map.of(
+      RateLimitPolicy.LOGIN, new Limit(20, 10, 60),
+      RateLimitPolicy.JOIN, new Limit(10, 0, 60),
+      RateLimitPolicy.VALIDATE_USERNAME, new Limit(120, 0, 60),
+      RateLimitPolicy.VALIDATE_NICKNAME, new Limit(120, 0, 60)
+  ));
+
+  public Limit getLimit(RateLimitPolicy policy) {
+    return policies.get(policy);
+  }
+
+  /**
+   * 한도 0 은 해당 기준으로 제한하지 않음을 의미합니다.
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Limit {
+
+    private int ipLimit; // 클라이언트 IP 당 한도
+    private int usernameLimit; // 로그인 아이디 당 한도
+    private int windowSeconds = 60; // 한도 적용 구간 (초)
+  }
+}
@@ -1,14 +1,26 @@
 package com.chuseok22.lab.global.config;
 
+import com.chuseok22.lab.domain.auth.service.LoginAuthenticationExecutor;
+import com.chuseok22.lab.domain.auth.service.RefreshTokenService;
+import com.chuseok22.lab.domain.auth.service.TokenRejectionMonitor;
+import com.chuseok22.lab.domain.auth.service.TokenRevocationService;
+import com.chuseok22.lab.global.exception.ErrorResponseCatalog;
 import com.chuseok22.lab.global.filter.CustomLogoutHandler;
 import com.chuseok22.lab.global.filter.CustomLogoutSuccessHandler;
 import com.chuseok22.lab.global.filter.LoginFilter;
+import com.chuseok22.lab.global.filter.RateLimitFilter;
+import com.chuseok22.lab.global.filter.RouteClassifier;
 import com.chuseok22.lab.global.filter.TokenAuthenticationFilter;
+import com.chuseok22.lab.global.filter.TokenResolverChain;
+import com.chuseok22.lab.global.util.BCryptStrengthCalibrator;
 import com.chuseok22.lab.global.util.CookieUtil;
 import com.chuseok22.lab.global.util.JwtUtil;
+import com.chuseok22.lab.global.util.RateLimiter;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -24,6 +36,7 @@ import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -32,19 +45,38 @@ public class SecurityConfig {
 
   private final JwtUtil jwtUtil;
   private final CookieUtil cookieUtil;
+  private final RefreshTokenService refreshTokenService;
+  private final TokenRevocationService tokenRevocationService;
+  private final TokenRejectionMonitor tokenRejectionMonitor;
+  private final RouteClassifier routeClassifier;
+  private final TokenResolverChain tokenResolverChain;
+  private final ErrorResponseCatalog errorResponseCatalog;
+  private final LoginAuthenticationExecutor loginAuthenticationExecutor;
+  private final RateLimiter rateLimiter;
+  private final RateLimitProperties rateLimitProperties;
   private final AuthenticationConfiguration authenticationConfiguration;
   private final CustomLogoutHandler customLogoutHandler;
   private final CustomLogoutSuccessHandler customLogoutSuccessHandler;
 
+  @Value("${auth.password.target-hash-millis:250}")
+  private long targetHashMillis; // 로그인 1회 비밀번호 해시 목표 시간
+
+  @Value("${auth.password.min-strength:10}")
+  private int minStrength;
+
+  @Value("${auth.password.max-strength:14}")
+  private int maxStrength;
+
   /**
    * Security Filter Chain 설정
    */
   @Bean
   public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
-    LoginFilter loginFilter = new LoginFilter(jwtUtil, authenticationManager(authenticationConfiguration), cookieUtil);
+    LoginFilter loginFilter = new LoginFilter(jwtUtil, authenticationManager(authenticationConfiguration), cookieUtil, refreshTokenService, errorResponseCatalog, loginAuthenticationExecutor);
     loginFilter.setFilterProcessesUrl("/api/auth/login");
-    TokenAuthenticationFilter tokenAuthenticationFilter = new TokenAuthenticationFilter(jwtUtil, cookieUtil);
+    RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimiter, rateLimitProperties, errorResponseCatalog);
+    TokenAuthenticationFilter tokenAuthenticationFilter = new TokenAuthenticationFilter(jwtUtil, tokenResolverChain, tokenRevocationService, tokenRejectionMonitor, routeClassifier, errorResponseCatalog);
 
     return http
         .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -52,6 +84,8 @@ public class SecurityConfig {
         .httpBasic(AbstractHttpConfigurer::disable)
         .formLogin(AbstractHttpConfigurer::disable)
         .authorizeHttpRequests((authorize) -> authorize
+            .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR)
+            .permitAll() // 비동기 응답(CompletableFuture, Flux) 재디스패치, 에러 디스패치는 최초 요청에서 인가 완료 (토큰 필터는 재실행되지 않음)
             .requestMatchers(SecurityUrls.AUTH_WHITELIST.toArray(new String[0]))
             .permitAll() // AUTH_WHITELIST에 등록된 URL은 인증 허용
             .requestMatchers(SecurityUrls.ADMIN_PATHS.toArray(new String[0]))
@@ -67,6 +101,9 @@ public class SecurityConfig {
         .sessionManagement(session ->
             session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
         )
+        .addFilterAfter(
+            rateLimitFilter, CorsFilter.class // 인증 처리 전에 요청 제한
+        )
         .addFilterBefore(
             tokenAuthenticationFilter,
             UsernamePasswordAuthenticationFilter.class
@@ -109,9 +146,11 @@ public class SecurityConfig {
 
   /**
    * 비밀번호 인코더 빈 (BCrypt)
+   * 기동 시 목표 해시 시간에 맞춰 strength 를 측정합니다.
+   * 더 낮은 strength 로 저장된 해시는 로그인 성공 시 CustomUserDetailsService.updatePassword 로 재해시됩니다.
    */
   @Bean
   public BCryptPasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+    return new BCryptPasswordEncoder(BCryptStrengthCalibrator.calibrate(targetHashMillis, minStrength, maxStrength));
   }
 }
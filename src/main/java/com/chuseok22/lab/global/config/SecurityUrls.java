@@ -34,6 +34,8 @@ public class SecurityUrls {
       "/api/auth/validate/username", // 아이디 중복 검증
       "/api/auth/validate/nickname", // 닉네임 중복 검증
       "/", // 홈
+      "/.well-known/jwks.json", // JWT 검증용 공개 키
+      "/actuator/health/**", // 헬스 체크 (로드밸런서, 컨테이너 probe)
 
 
       // Swagger
@@ -46,7 +48,8 @@ public class SecurityUrls {
    * 관리자 권한이 필요한 URL 패턴 목록
    */
   public static final List<String> ADMIN_PATHS = Arrays.asList(
-
+      "/actuator/metrics/**", // 모니터링 (metrics)
+      "/api/admin/**" // 관리자 API
 
   );
 
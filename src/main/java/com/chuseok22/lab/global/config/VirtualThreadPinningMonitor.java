@@ -0,0 +1,102 @@
+package com.chuseok22.lab.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 carrier 고정(pinning) 감지
+ * JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 수신하여 지표(virtual.thread.pinned)와 로그로 보고합니다.
+ * (synchronized 블록/네이티브 호출 중 블로킹 I/O 가 발생하면 carrier 스레드가 반환되지 않음)
+ * 같은 호출 위치는 처음 한 번과 이후 100회마다 로그를 남깁니다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int LOG_FRAMES = 8;
+  private static final int LOG_EVERY = 100;
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${virtual-threads.pinning.threshold-millis:20}")
+  private long thresholdMillis;
+
+  private final Map<String, LongAdder> pinnedCounts = new ConcurrentHashMap<>();
+  private RecordingStream recordingStream;
+  private Timer pinnedTimer;
+
+  @PostConstruct
+  public void start() {
+    pinnedTimer = Timer.builder("virtual.thread.pinned")
+        .description("가상 스레드가 carrier 스레드에 고정된 시간")
+        .register(meterRegistry);
+
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT)
+        .withThreshold(Duration.ofMillis(thresholdMillis))
+        .withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::report);
+    recordingStream.startAsync();
+    log.info("가상 스레드 pinning 감지 시작: 기준 {}ms", thresholdMillis);
+  }
+
+  @PreDestroy
+  public void stop() {
+    recordingStream.close();
+  }
+
+  /**
+   * 호출 위치별 pinning 횟수 (관리/진단용)
+   */
+  public Map<String, Long> getPinnedCounts() {
+    return pinnedCounts.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+  }
+
+  private void report(RecordedEvent event) {
+    pinnedTimer.record(event.getDuration());
+
+    String stackTrace = formatStackTrace(event);
+    LongAdder count = pinnedCounts.computeIfAbsent(stackTrace, key -> new LongAdder());
+    count.increment();
+    long total = count.sum();
+    if (total == 1 || total % LOG_EVERY == 0) {
+      log.warn("가상 스레드 pinning 감지 ({}회, {}ms, thread={}):\n{}",
+          total,
+          event.getDuration().toMillis(),
+          event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+          stackTrace);
+    }
+  }
+
+  private String formatStackTrace(RecordedEvent event) {
+    if (event.getStackTrace() == null) {
+      return "(stack trace 없음)";
+    }
+    List<RecordedFrame> frames = event.getStackTrace().getFrames();
+    return frames.stream()
+        .limit(LOG_FRAMES)
+        .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+            + "(line " + frame.getLineNumber() + ")")
+        .collect(Collectors.joining("\n"));
+  }
+}
@@ -1,13 +1,19 @@
 package com.chuseok22.lab.global.config;
 
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.security.crypto.encrypt.Encryptors;
 import org.springframework.security.crypto.encrypt.TextEncryptor;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
@@ -18,6 +24,33 @@ public class WebClientConfig {
   @Value("${encryption.salt}")
   private String encryptionSalt;
 
+  @Value("${github.http.pool.max-connections:50}")
+  private int githubMaxConnections; // Github 연결 최대 개수
+
+  @Value("${github.http.pool.pending-acquire-max-count:200}")
+  private int githubPendingAcquireMaxCount; // 연결 대기 최대 요청 수 (초과 시 즉시 실패)
+
+  @Value("${github.http.pool.pending-acquire-timeout-millis:2000}")
+  private long githubPendingAcquireTimeoutMillis; // 연결 대기 최대 시간
+
+  @Value("${github.http.pool.max-idle-millis:30000}")
+  private long githubMaxIdleMillis; // 유휴 연결 유지 시간
+
+  @Value("${github.http.pool.max-life-millis:300000}")
+  private long githubMaxLifeMillis; // 연결 최대 수명
+
+  @Value("${github.http.connect-timeout-millis:2000}")
+  private int githubConnectTimeoutMillis;
+
+  @Value("${github.http.response-timeout-millis:5000}")
+  private long githubResponseTimeoutMillis;
+
+  @Value("${github.http.max-in-memory-size:1048576}")
+  private int githubMaxInMemorySize; // 이슈 응답 최대 크기 (title 만 사용)
+
+  @Value("${github.http.http2:true}")
+  private boolean githubHttp2Enabled; // https 연결에서 HTTP/2 사용 (http 연결은 HTTP/1.1)
+
   @Bean
   public WebClient webClient() {
     return WebClient.builder()
@@ -29,6 +62,43 @@ public class WebClientConfig {
         .build();
   }
 
+  /**
+   * Github API 전용 WebClient
+   * 전용 연결 풀(크기, 대기열, 유휴 연결 정리)과 연결/응답 타임아웃을 적용하여
+   * Github 응답 지연 시에도 연결과 대기 요청이 무제한으로 쌓이지 않도록 합니다.
+   * 연결 풀 지표: reactor.netty.connection.provider.{active,idle,pending,total}.connections (name=github)
+   */
+  @Bean
+  public WebClient githubWebClient() {
+    ConnectionProvider connectionProvider = ConnectionProvider.builder("github")
+        .maxConnections(githubMaxConnections)
+        .pendingAcquireMaxCount(githubPendingAcquireMaxCount)
+        .pendingAcquireTimeout(Duration.ofMillis(githubPendingAcquireTimeoutMillis))
+        .maxIdleTime(Duration.ofMillis(githubMaxIdleMillis))
+        .maxLifeTime(Duration.ofMillis(githubMaxLifeMillis))
+        .evictInBackground(Duration.ofMillis(githubMaxIdleMillis))
+        .metrics(true)
+        .build();
+
+    HttpClient httpClient = HttpClient.create(connectionProvider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, githubConnectTimeoutMillis)
+        .responseTimeout(Duration.ofMillis(githubResponseTimeoutMillis))
+        .compress(true) // Accept-Encoding: gzip
+        .metrics(true, uri -> "github"); // URI 별 태그 생성 방지
+    if (githubHttp2Enabled) {
+      httpClient = httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2);
+    }
+
+    return WebClient.builder()
+        .clientConnector(new ReactorClientHttpConnector(httpClient))
+        .defaultHeaders(httpHeaders -> {
+          httpHeaders.add(HttpHeaders.ACCEPT, "application/vnd.github+json");
+        })
+        .codecs(clientCodecConfigurer -> clientCodecConfigurer
+            .defaultCodecs().maxInMemorySize(githubMaxInMemorySize))
+        .build();
+  }
+
   @Bean
   public TextEncryptor textEncryptor() {
     return Encryptors.text(encryptionKey, encryptionSalt);
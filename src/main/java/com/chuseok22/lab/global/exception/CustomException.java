@@ -2,13 +2,17 @@ package com.chuseok22.lab.global.exception;
 
 import lombok.Getter;
 
+/**
+ * 에러 코드 기반 예외
+ * 4xx 는 예상된 거절이므로 스택 트레이스를 수집하지 않습니다. (5xx 만 수집)
+ */
 @Getter
 public class CustomException extends RuntimeException {
 
   private final ErrorCode errorCode;
 
   public CustomException(ErrorCode errorCode) {
-    super(errorCode.getMessage());
+    super(errorCode.getMessage(), null, false, errorCode.getStatus().is5xxServerError());
     this.errorCode = errorCode;
   }
 }
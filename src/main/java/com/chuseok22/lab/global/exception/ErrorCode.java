@@ -16,6 +16,12 @@ public enum ErrorCode {
 
   ACCESS_DENIED(HttpStatus.FORBIDDEN, "접근이 거부되었습니다."),
 
+  TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
+  PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "요청 Body 가 너무 큽니다."),
+
+  SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
   // AUTH
 
   INVALID_ACCESS_TOKEN(HttpStatus.FORBIDDEN, "유효하지 않은 엑세스 토큰입니다."),
@@ -36,6 +42,12 @@ public enum ErrorCode {
 
   REFRESH_TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED, "리프레시 토큰을 찾을 수 없습니다."),
 
+  REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
+
+  LOGIN_FAILED(HttpStatus.UNAUTHORIZED, "아이디 또는 비밀번호가 일치하지 않습니다."),
+
+  LOGIN_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
   // MEMBER
 
   MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."),
@@ -56,6 +68,10 @@ public enum ErrorCode {
 
   GITHUB_API_ERROR(HttpStatus.BAD_REQUEST, "Github API 요청에 실패했습니다."),
 
+  GITHUB_API_UNAVAILABLE(HttpStatus.GATEWAY_TIMEOUT, "Github API 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+
+  GITHUB_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "Github API 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+
   // WEB API
 
   INVALID_RESPONSE_BODY(HttpStatus.BAD_REQUEST, "잘못된 응답 Body 입니다."),
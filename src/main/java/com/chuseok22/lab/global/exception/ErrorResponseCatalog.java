@@ -0,0 +1,63 @@
+package com.chuseok22.lab.global.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * ErrorCode 별 에러 응답 Body 카탈로그
+ * 기동 시 모든 ErrorResponse 를 UTF-8 바이트로 한 번만 직렬화하고,
+ * 요청 시에는 Content-Length 와 함께 출력 스트림에 그대로 기록합니다.
+ */
+@Component
+@Slf4j
+public class ErrorResponseCatalog {
+
+  private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+  private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+
+  public ErrorResponseCatalog(ObjectMapper objectMapper) {
+    for (ErrorCode errorCode : ErrorCode.values()) {
+      try {
+        bodies.put(errorCode, objectMapper.writeValueAsBytes(new ErrorResponse(errorCode, errorCode.getMessage())));
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException("에러 응답 직렬화 실패: " + errorCode, e);
+      }
+    }
+    log.info("에러 응답 {}개 직렬화 완료", bodies.size());
+  }
+
+  /**
+   * 서블릿 응답에 에러 Body 기록 (필터용)
+   *
+   * @param response  HttpServletResponse 객체
+   * @param errorCode 발생한 에러코드
+   */
+  public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+    byte[] body = bodies.get(errorCode);
+    response.setStatus(errorCode.getStatus().value());
+    response.setContentType(CONTENT_TYPE);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  /**
+   * 에러 응답 ResponseEntity 생성 (ExceptionHandler 용)
+   * Body 는 공유 배열이므로 수정하면 안 됩니다.
+   */
+  public ResponseEntity<byte[]> toResponseEntity(ErrorCode errorCode) {
+    byte[] body = bodies.get(errorCode);
+    return ResponseEntity.status(errorCode.getStatus())
+        .contentType(MediaType.APPLICATION_JSON)
+        .contentLength(body.length)
+        .body(body);
+  }
+}
@@ -2,10 +2,12 @@ package com.chuseok22.lab.global.exception.controller;
 
 import com.chuseok22.lab.global.exception.CustomException;
 import com.chuseok22.lab.global.exception.ErrorCode;
-import com.chuseok22.lab.global.exception.ErrorResponse;
+import com.chuseok22.lab.global.exception.ErrorResponseCatalog;
 import com.chuseok22.lab.global.exception.ValidErrorResponse;
+import com.chuseok22.lab.global.util.LogThrottle;
 import java.util.HashMap;
 import java.util.Map;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,23 +17,26 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
 
+  private final ErrorResponseCatalog errorResponseCatalog;
+  private final LogThrottle logThrottle;
+
   /**
-   * 1) 커스텀 예외 처리
+   * 1) 커스텀 예외 처리 (미리 직렬화된 에러 응답 반환)
+   * 4xx 는 에러 코드와 메시지만 에러 코드별 출력량을 제한하여 기록하고, 5xx 만 스택 트레이스를 남깁니다.
    */
   @ExceptionHandler(CustomException.class)
-  public ResponseEntity<ErrorResponse> handleCustomException(CustomException e) {
-    log.error("CustomException 발생: {}", e.getMessage(), e);
-
+  public ResponseEntity<byte[]> handleCustomException(CustomException e) {
     ErrorCode errorCode = e.getErrorCode();
-    ErrorResponse response = ErrorResponse.builder()
-        .errorCode(errorCode)
-        .errorMessage(e.getMessage())
-        .build();
-
-    return ResponseEntity.status(errorCode.getStatus()).body(response);
+    if (errorCode.getStatus().is5xxServerError()) {
+      log.error("CustomException 발생: {} {}", errorCode.name(), e.getMessage(), e);
+    } else if (logThrottle.tryAcquire(errorCode.name())) {
+      log.warn("CustomException 발생: {} {}", errorCode.name(), e.getMessage());
+    }
+    return errorResponseCatalog.toResponseEntity(errorCode);
   }
 
   /**
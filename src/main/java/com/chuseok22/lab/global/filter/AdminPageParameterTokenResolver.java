@@ -0,0 +1,25 @@
+package com.chuseok22.lab.global.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 페이지 요청의 accessToken 파라미터에서 토큰 추출
+ */
+@Component
+@Order(3)
+public class AdminPageParameterTokenResolver implements TokenResolver {
+
+  private static final String PARAMETER_NAME = "accessToken";
+
+  @Override
+  public Optional<String> resolve(HttpServletRequest request, RouteType routeType) {
+    if (!routeType.isAdminPage()) {
+      return Optional.empty();
+    }
+    String paramToken = request.getParameter(PARAMETER_NAME);
+    return paramToken == null || paramToken.isEmpty() ? Optional.empty() : Optional.of(paramToken);
+  }
+}
@@ -0,0 +1,27 @@
+package com.chuseok22.lab.global.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authorization 헤더의 Bearer 토큰 추출
+ */
+@Component
+@Order(1)
+public class BearerHeaderTokenResolver implements TokenResolver {
+
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  @Override
+  public Optional<String> resolve(HttpServletRequest request, RouteType routeType) {
+    String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (bearerToken == null || !bearerToken.startsWith(BEARER_PREFIX)) {
+      return Optional.empty();
+    }
+    String token = bearerToken.substring(BEARER_PREFIX.length()).trim(); // "Bearer " 제거
+    return token.isEmpty() ? Optional.empty() : Optional.of(token);
+  }
+}
@@ -0,0 +1,75 @@
+package com.chuseok22.lab.global.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import lombok.Getter;
+
+/**
+ * 미리 읽은 요청 Body 를 보관하고, 이후 필터에서 다시 읽을 수 있도록 하는 요청 래퍼
+ * Body 크기 제한은 읽는 쪽(RateLimitFilter)에서 적용합니다.
+ */
+public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+  @Getter
+  private final byte[] body;
+
+  public CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+    super(request);
+    this.body = body;
+  }
+
+  @Override
+  public int getContentLength() {
+    return body.length;
+  }
+
+  @Override
+  public long getContentLengthLong() {
+    return body.length;
+  }
+
+  @Override
+  public ServletInputStream getInputStream() {
+    ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+    return new ServletInputStream() {
+      @Override
+      public boolean isFinished() {
+        return inputStream.available() == 0;
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      /**
+       * Body 가 이미 메모리에 있으므로 즉시 읽기 가능/완료를 알립니다.
+       */
+      @Override
+      public void setReadListener(ReadListener readListener) {
+        try {
+          if (!isFinished()) {
+            readListener.onDataAvailable();
+          }
+          readListener.onAllDataRead();
+        } catch (IOException e) {
+          readListener.onError(e);
+        }
+      }
+
+      @Override
+      public int read() {
+        return inputStream.read();
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) {
+        return inputStream.read(b, off, len);
+      }
+    };
+  }
+}
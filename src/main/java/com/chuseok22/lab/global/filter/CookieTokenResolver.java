@@ -0,0 +1,29 @@
+package com.chuseok22.lab.global.filter;
+
+import static com.chuseok22.lab.domain.auth.vo.TokenCategory.ACCESS_TOKEN;
+
+import com.chuseok22.lab.global.util.CookieUtil;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * accessToken 쿠키에서 토큰 추출 (요청당 쿠키 배열 1회 순회)
+ */
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class CookieTokenResolver implements TokenResolver {
+
+  private final CookieUtil cookieUtil;
+
+  @Override
+  public Optional<String> resolve(HttpServletRequest request, RouteType routeType) {
+    return cookieUtil.findCookie(request, ACCESS_TOKEN.getPrefix())
+        .map(Cookie::getValue)
+        .filter(value -> !value.isEmpty());
+  }
+}
@@ -4,8 +4,10 @@ import static com.chuseok22.lab.domain.auth.vo.TokenCategory.ACCESS_TOKEN;
 import static com.chuseok22.lab.domain.auth.vo.TokenCategory.REFRESH_TOKEN;
 
 import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
+import com.chuseok22.lab.domain.auth.dto.TokenClaims;
+import com.chuseok22.lab.domain.auth.service.RefreshTokenService;
+import com.chuseok22.lab.domain.auth.service.TokenRevocationService;
 import com.chuseok22.lab.global.util.CookieUtil;
-import com.chuseok22.lab.global.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +21,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CustomLogoutHandler implements LogoutHandler {
 
-  private final JwtUtil jwtUtil;
+  private final RefreshTokenService refreshTokenService;
+  private final TokenRevocationService tokenRevocationService;
   private final CookieUtil cookieUtil;
 
   @Override
@@ -29,9 +32,18 @@ public class CustomLogoutHandler implements LogoutHandler {
     CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
     log.debug("CustomUserDetails: {}", customUserDetails.getMemberId());
 
-    // Redis에서 리프레시 토큰 삭제
-    String key = JwtUtil.REFRESH_KEY_PREFIX + customUserDetails.getMemberId();
-    jwtUtil.deleteRefreshToken(key);
+    // 현재 기기 세션 삭제 및 해당 세션의 엑세스 토큰 폐기 (만료 전 재사용 방지)
+    if (authentication.getDetails() instanceof TokenClaims tokenClaims && tokenClaims.sessionId() != null) {
+      tokenRevocationService.revoke(tokenClaims);
+      refreshTokenService.revokeSession(customUserDetails.getMemberId(), tokenClaims.sessionId());
+      tokenRevocationService.revokeSession(tokenClaims.sessionId());
+    } else { // 세션 id가 없는 이전 버전 토큰은 모든 세션 삭제
+      if (authentication.getDetails() instanceof TokenClaims tokenClaims) {
+        tokenRevocationService.revoke(tokenClaims);
+      }
+      refreshTokenService.revokeAllSessions(customUserDetails.getMemberId())
+          .forEach(tokenRevocationService::revokeSession);
+    }
 
     // 기존 쿠키 삭제
     response.addCookie(cookieUtil.createDeleteCookie(ACCESS_TOKEN.getPrefix()));
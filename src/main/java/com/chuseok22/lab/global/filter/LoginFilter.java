@@ -5,8 +5,11 @@ import static com.chuseok22.lab.domain.auth.vo.TokenCategory.REFRESH_TOKEN;
 
 import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
 import com.chuseok22.lab.domain.auth.dto.LoginRequest;
+import com.chuseok22.lab.domain.auth.service.LoginAuthenticationExecutor;
+import com.chuseok22.lab.domain.auth.service.RefreshTokenService;
 import com.chuseok22.lab.global.exception.CustomException;
 import com.chuseok22.lab.global.exception.ErrorCode;
+import com.chuseok22.lab.global.exception.ErrorResponseCatalog;
 import com.chuseok22.lab.global.util.CookieUtil;
 import com.chuseok22.lab.global.util.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,8 +17,11 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -29,6 +35,9 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
   private final JwtUtil jwtUtil;
   private final AuthenticationManager authenticationManager;
   private final CookieUtil cookieUtil;
+  private final RefreshTokenService refreshTokenService;
+  private final ErrorResponseCatalog errorResponseCatalog;
+  private final LoginAuthenticationExecutor loginAuthenticationExecutor;
   private final ObjectMapper objectMapper = new ObjectMapper();
 
   @Override
@@ -43,8 +52,13 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
       // 스프링 시큐리티에서 username과 password를 검증하기 위해서는 token에 담아야 함
       UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, password, null);
 
-      // token 검증을 위한 AuthenticationManager로 전달
-      return authenticationManager.authenticate(authToken);
+      // token 검증을 위한 AuthenticationManager로 전달 (로그인 전용 실행기에서 비밀번호 검증)
+      return loginAuthenticationExecutor.execute(() -> authenticationManager.authenticate(authToken));
+    } catch (RejectedExecutionException e) {
+      // 대기열 초과: 대기하지 않고 즉시 503 응답 (null 반환 시 필터 체인 종료)
+      log.warn("로그인 검증 대기열이 가득 차 요청을 거절합니다.");
+      sendOverloadedResponse(response);
+      return null;
     } catch (IOException e) {
       log.error("JSON 파싱 중 오류 발생");
       throw new CustomException(ErrorCode.INVALID_REQUEST);
@@ -57,19 +71,22 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     // UserDetails
     CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
 
+    // 기기별 로그인 세션 id
+    String sessionId = UUID.randomUUID().toString();
+
     // AccessToken 발급
-    String accessToken = jwtUtil.createAccessToken(customUserDetails);
+    String accessToken = jwtUtil.createAccessToken(customUserDetails, sessionId);
 
     // RefreshToken 발급
-    String refreshToken = jwtUtil.createRefreshToken(customUserDetails);
+    String refreshToken = jwtUtil.createRefreshToken(customUserDetails, sessionId);
 
     log.debug("로그인 성공: 엑세스 토큰 및 리프레시 토큰 생성");
     log.debug("accessToken = {}", accessToken);
     log.debug("refreshToken = {}", refreshToken);
 
-    // RefreshToken을 Redisd에 저장 (key: RT:memberId)
-    String key = JwtUtil.REFRESH_KEY_PREFIX + customUserDetails.getMemberId();
-    jwtUtil.saveRefreshToken(key, refreshToken);
+    // RefreshToken을 Redis 회원 세션 Hash에 저장 (key: RS:memberId, field: sessionId)
+    refreshTokenService.createSession(customUserDetails.getMemberId(), sessionId, refreshToken,
+        request.getHeader(HttpHeaders.USER_AGENT));
 
     // 쿠키에 accessToken, refreshToken 추가
     response.addCookie(cookieUtil.createCookie(ACCESS_TOKEN.getPrefix(), accessToken));
@@ -85,6 +102,15 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
   protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException {
 
     log.error("로그인 실패: {}", failed.getMessage());
-    response.sendError(401);
+    errorResponseCatalog.write(response, ErrorCode.LOGIN_FAILED);
+  }
+
+  private void sendOverloadedResponse(HttpServletResponse response) {
+    try {
+      response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(loginAuthenticationExecutor.getRetryAfterSeconds()));
+      errorResponseCatalog.write(response, ErrorCode.LOGIN_OVERLOADED);
+    } catch (IOException e) {
+      log.error("응답값 생성 중 오류 발생: {}", e.getMessage());
+    }
   }
 }
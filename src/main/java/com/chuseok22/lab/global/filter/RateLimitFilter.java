@@ -0,0 +1,116 @@
+package com.chuseok22.lab.global.filter;
+
+import com.chuseok22.lab.global.config.RateLimitPolicy;
+import com.chuseok22.lab.global.config.RateLimitProperties;
+import com.chuseok22.lab.global.config.RateLimitProperties.Limit;
+import com.chuseok22.lab.global.exception.ErrorCode;
+import com.chuseok22.lab.global.exception.ErrorResponseCatalog;
+import com.chuseok22.lab.global.util.RateLimiter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 인증 관련 경로 요청 제한 필터 (RateLimitPolicy)
+ * 한도 초과 요청은 AuthenticationManager, MemberRepository 에 도달하기 전에 429 로 거절합니다.
+ * 로그인 아이디 추출을 위한 Body 는 최대 크기(auth.rate-limit.max-body-bytes)까지만 읽고, 초과 시 413 으로 거절합니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final JsonFactory jsonFactory = new JsonFactory();
+
+  private final RateLimiter rateLimiter;
+  private final RateLimitProperties rateLimitProperties;
+  private final ErrorResponseCatalog errorResponseCatalog;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return RateLimitPolicy.fromPath(request.getRequestURI()) == null;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+
+    RateLimitPolicy policy = RateLimitPolicy.fromPath(request.getRequestURI());
+    Limit limit = rateLimitProperties.getLimit(policy);
+
+    // 1. 클라이언트 IP 기준 (프록시 뒤에서는 server.forward-headers-strategy 로 원래 IP 복원)
+    long waitMillis = limit.getIpLimit() > 0
+        ? rateLimiter.tryAcquire(policy, "ip", request.getRemoteAddr(), limit.getIpLimit())
+        : 0;
+
+    // 2. 로그인 아이디 기준 (Body 는 LoginFilter 에서 다시 읽을 수 있도록 보관)
+    if (waitMillis == 0 && limit.getUsernameLimit() > 0) {
+      byte[] body = readBody(request);
+      if (body == null) {
+        log.warn("요청 Body 크기 초과: policy={}, ip={}", policy, request.getRemoteAddr());
+        errorResponseCatalog.write(response, ErrorCode.PAYLOAD_TOO_LARGE);
+        return;
+      }
+      request = new CachedBodyHttpServletRequest(request, body);
+      String username = extractUsername(body);
+      if (username != null) {
+        waitMillis = rateLimiter.tryAcquire(policy, "username", username, limit.getUsernameLimit());
+      }
+    }
+
+    if (waitMillis > 0) {
+      log.warn("요청 제한 초과: policy={}, ip={}", policy, request.getRemoteAddr());
+      response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitMillis + 999) / 1000)));
+      errorResponseCatalog.write(response, ErrorCode.TOO_MANY_REQUESTS);
+      return;
+    }
+
+    filterChain.doFilter(request, response);
+  }
+
+  /**
+   * 최대 크기까지만 요청 Body 읽기 (Content-Length 가 없는 chunked 요청도 최대 크기 + 1 바이트까지만 읽음)
+   *
+   * @return 최대 크기를 초과하면 null
+   */
+  private byte[] readBody(HttpServletRequest request) throws IOException {
+    int maxBodyBytes = rateLimitProperties.getMaxBodyBytes();
+    if (request.getContentLengthLong() > maxBodyBytes) {
+      return null;
+    }
+    byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+    return body.length > maxBodyBytes ? null : body;
+  }
+
+  /**
+   * JSON Body 의 최상위 username 필드만 스트리밍으로 추출
+   *
+   * @return username 이 없거나 JSON 이 아니면 null
+   */
+  private String extractUsername(byte[] body) {
+    try (JsonParser parser = jsonFactory.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if ("username".equals(fieldName) && value == JsonToken.VALUE_STRING) {
+          return parser.getText();
+        }
+        parser.skipChildren();
+      }
+    } catch (IOException e) {
+      log.debug("요청 Body 에서 username 추출 실패: {}", e.getMessage());
+    }
+    return null;
+  }
+}
@@ -0,0 +1,67 @@
+package com.chuseok22.lab.global.filter;
+
+import com.chuseok22.lab.global.config.SecurityUrls;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 요청 URI 분류기
+ * 기동 시 SecurityUrls 패턴을 한 번만 컴파일하고, 우선순위 순서대로 한 번 순회하여 RouteType 을 반환합니다.
+ * 최근 분류한 URI 는 크기 제한 캐시에서 반환합니다.
+ */
+@Component
+@Slf4j
+public class RouteClassifier {
+
+  private static final int CACHE_MAX_SIZE = 10_000;
+
+  private final List<Route> routes;
+  private final Cache<String, RouteType> classifiedCache;
+
+  public RouteClassifier() {
+    PathPatternParser parser = new PathPatternParser();
+    List<Route> compiled = new ArrayList<>();
+    // 우선순위: 화이트리스트 -> 관리자 경로 -> 관리자 페이지 -> API
+    SecurityUrls.AUTH_WHITELIST.forEach(pattern -> compiled.add(new Route(parser.parse(pattern), RouteType.PUBLIC)));
+    SecurityUrls.ADMIN_PATHS.forEach(pattern -> compiled.add(new Route(parser.parse(pattern), RouteType.ADMIN_API)));
+    compiled.add(new Route(parser.parse("/admin/**"), RouteType.ADMIN_PAGE));
+    compiled.add(new Route(parser.parse("/api/**"), RouteType.API));
+    routes = List.copyOf(compiled);
+    classifiedCache = Caffeine.newBuilder()
+        .maximumSize(CACHE_MAX_SIZE)
+        .build();
+    log.info("요청 경로 분류 패턴 {}개 컴파일 완료", routes.size());
+  }
+
+  /**
+   * 요청 URI 분류
+   *
+   * @param uri 요청된 URI
+   * @return 요청 경로 분류
+   */
+  public RouteType classify(String uri) {
+    return classifiedCache.get(uri, this::resolve);
+  }
+
+  // 캐시 미스 시 컴파일된 패턴 순회
+  RouteType resolve(String uri) {
+    PathContainer path = PathContainer.parsePath(uri);
+    for (Route route : routes) {
+      if (route.pattern().matches(path)) {
+        return route.type();
+      }
+    }
+    return RouteType.OTHER;
+  }
+
+  private record Route(PathPattern pattern, RouteType type) {
+
+  }
+}
@@ -0,0 +1,20 @@
+package com.chuseok22.lab.global.filter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청 경로 분류 (RouteClassifier)
+ */
+@Getter
+@AllArgsConstructor
+public enum RouteType {
+  PUBLIC(false, false), // 인증 생략 (SecurityUrls.AUTH_WHITELIST)
+  ADMIN_API(true, false), // 관리자 권한 필요 (SecurityUrls.ADMIN_PATHS)
+  ADMIN_PAGE(false, true), // 관리자 페이지 (/admin/)
+  API(true, false), // 일반 API (/api/)
+  OTHER(false, false); // 그 외
+
+  private final boolean api; // Bearer 토큰 사용, 인증 실패 시 JSON 에러 응답
+  private final boolean adminPage; // 토큰 파라미터 허용, 인증 실패 시 로그인 페이지 리다이렉트
+}
@@ -1,14 +1,12 @@
 package com.chuseok22.lab.global.filter;
 
-import static com.chuseok22.lab.domain.auth.vo.TokenCategory.ACCESS_TOKEN;
-import static com.chuseok22.lab.global.util.CommonUtil.nvl;
-
-import com.chuseok22.lab.global.config.SecurityUrls;
+import com.chuseok22.lab.domain.auth.dto.TokenClaims;
+import com.chuseok22.lab.domain.auth.service.TokenRejectionMonitor;
+import com.chuseok22.lab.domain.auth.service.TokenRevocationService;
+import com.chuseok22.lab.domain.auth.vo.TokenRejectionCause;
 import com.chuseok22.lab.global.exception.ErrorCode;
-import com.chuseok22.lab.global.exception.ErrorResponse;
-import com.chuseok22.lab.global.util.CookieUtil;
+import com.chuseok22.lab.global.exception.ErrorResponseCatalog;
 import com.chuseok22.lab.global.util.JwtUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,10 +15,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
@@ -31,8 +27,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtUtil jwtUtil;
-  private final CookieUtil cookieUtil;
-  private static final AntPathMatcher pathMatcher = new AntPathMatcher();
+  private final TokenResolverChain tokenResolverChain;
+  private final TokenRevocationService tokenRevocationService;
+  private final TokenRejectionMonitor tokenRejectionMonitor;
+  private final RouteClassifier routeClassifier;
+  private final ErrorResponseCatalog errorResponseCatalog;
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -41,47 +40,31 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     String uri = request.getRequestURI();
     log.debug("요청된 URI: {}", uri);
 
+    // 요청 경로 분류 (1회)
+    RouteType routeType = routeClassifier.classify(uri);
+
     // 화이트리스트 체크 : 화이트리스트 경로면 필터링 건너뜀
-    if (isWhitelistedPath(uri)) {
+    if (routeType == RouteType.PUBLIC) {
       filterChain.doFilter(request, response);
       return;
     }
 
     // 요청 타입 구분 : API 요청/관리자 페이지 요청
-    boolean isApiRequest = uri.startsWith("/api/");
-    boolean isAdminPageRequest = uri.startsWith("/admin/");
+    boolean isApiRequest = routeType.isApi();
+    boolean isAdminPageRequest = routeType.isAdminPage();
 
     try {
-      String token = null;
-      String bearerToken = request.getHeader("Authorization");
-      if (nvl(bearerToken, "").isEmpty()) {
-        log.debug("Authorization 헤더가 존재하지않아 쿠키에서 토큰 획득을 시도합니다.");
-        token = cookieUtil.getCookie(request, ACCESS_TOKEN.getPrefix()).getValue();
-      }
-      // 토큰 추출: 요청 타입에 따라 헤더 또는 파라미터에서 토큰 추출
-      if (isApiRequest) {
-        log.debug("일반 API 요청입니다.");
-        // API 요청 : Authorization 헤더에서 "Bearer " 토큰 추출
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-          token = bearerToken.substring(7).trim(); // "Bearer " 제거
-        }
-      } else if (isAdminPageRequest) {
-        log.debug("관리자 페이지 요청입니다.");
-        // 관리자 페이지 요청: Authorization 헤더 우선 확인
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-          token = bearerToken.substring(7).trim();
-        } else {
-          // Authorization 헤더에 토큰이 없는 경우 파라미터 확인
-          String paramToken = request.getParameter("accessToken");
-          if (paramToken != null && !paramToken.isEmpty()) {
-            token = paramToken;
-          }
-        }
+      // 토큰 추출: 헤더 -> 쿠키 -> 파라미터(관리자 페이지) 순서, 토큰이 없어도 예외를 만들지 않음
+      String token = tokenResolverChain.resolve(request, routeType).orElse(null);
+
+      // 토큰 검증: 토큰이 유효하면 인증 설정 (토큰당 1회만 파싱 및 서명 검증)
+      TokenClaims tokenClaims = token != null ? jwtUtil.getVerifiedClaims(token) : null;
+      if (tokenClaims != null && tokenRevocationService.isRevoked(tokenClaims)) {
+        tokenRejectionMonitor.record(TokenRejectionCause.REVOKED, false, "jti=" + tokenClaims.tokenId());
+        tokenClaims = null;
       }
-
-      // 토큰 검증: 토큰이 유효하면 인증 설정
-      if (token != null && jwtUtil.validateToken(token)) {
-        Authentication authentication = jwtUtil.getAuthentication(token);
+      if (tokenClaims != null) {
+        Authentication authentication = jwtUtil.getAuthentication(tokenClaims);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         // 관리자 페이지 접근 권한 체크: 관리자 권한 없으면 로그인 페이지로 리다이렉트
@@ -100,11 +83,11 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
       if (isApiRequest) {
         // 토큰 없음
         if (token == null) {
-          log.error("토큰이 존재하지 않습니다.");
-          sendErrorResponse(response, ErrorCode.MISSING_AUTH_TOKEN);
+          log.debug("토큰이 존재하지 않습니다.");
+          errorResponseCatalog.write(response, ErrorCode.MISSING_AUTH_TOKEN);
         } else { // 유효하지 않은 토큰
-          log.error("토큰이 유효하지 않습니다.");
-          sendErrorResponse(response, ErrorCode.INVALID_ACCESS_TOKEN);
+          log.debug("토큰이 유효하지 않습니다."); // 거절 사유는 TokenRejectionMonitor 에서 기록
+          errorResponseCatalog.write(response, ErrorCode.INVALID_ACCESS_TOKEN);
         }
         return; // 필터 체인 진행하지 않음
       } else if (isAdminPageRequest) {
@@ -114,10 +97,10 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         return;
       }
     } catch (ExpiredJwtException e) {
-      log.error("토큰 만료: {}", e.getMessage());
+      log.debug("토큰 만료: {}", e.getMessage());
       // 토큰 만료 예외 처리
       if (isApiRequest) {
-        sendErrorResponse(response, ErrorCode.EXPIRED_ACCESS_TOKEN);
+        errorResponseCatalog.write(response, ErrorCode.EXPIRED_ACCESS_TOKEN);
       } else {
         response.sendRedirect("/auth/login");
       }
@@ -128,35 +111,6 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     filterChain.doFilter(request, response);
   }
 
-  /**
-   * 에러 응답을 JSON 형태로 클라이언트에 전송
-   *
-   * @param response  HttpServletResponse 객체
-   * @param errorCode 발생한 에러코드
-   * @throws IOException
-   */
-  private void sendErrorResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
-    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-    response.setStatus(errorCode.getStatus().value());
-    response.setCharacterEncoding("UTF-8");
-
-    ErrorResponse errorResponse = new ErrorResponse(errorCode, errorCode.getMessage());
-
-    ObjectMapper mapper = new ObjectMapper();
-    mapper.writeValue(response.getWriter(), errorResponse);
-  }
-
-  /**
-   * 화이트리스트 경로 확인 (인증x)
-   *
-   * @param uri 요청된 URI
-   * @return 화이트리스트 여부
-   */
-  private boolean isWhitelistedPath(String uri) {
-    return SecurityUrls.AUTH_WHITELIST.stream()
-        .anyMatch(pattern -> pathMatcher.match(pattern, uri));
-  }
-
   /**
    * 관리자 권한 확인
    *
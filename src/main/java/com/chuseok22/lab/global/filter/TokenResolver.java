@@ -0,0 +1,14 @@
+package com.chuseok22.lab.global.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
+
+/**
+ * 요청에서 엑세스 토큰을 추출하는 리졸버
+ * 토큰이 없으면 예외 대신 Optional.empty() 를 반환합니다.
+ * 구현체는 @Order 순서대로 TokenResolverChain 에 등록됩니다.
+ */
+public interface TokenResolver {
+
+  Optional<String> resolve(HttpServletRequest request, RouteType routeType);
+}
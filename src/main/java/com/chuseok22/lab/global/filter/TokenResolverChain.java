@@ -0,0 +1,33 @@
+package com.chuseok22.lab.global.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등록된 TokenResolver 를 순서대로 시도하여 처음 찾은 토큰을 반환합니다.
+ * 기본 순서: Authorization 헤더 -> accessToken 쿠키 -> accessToken 파라미터 (관리자 페이지)
+ */
+@Component
+@Slf4j
+public class TokenResolverChain {
+
+  private final List<TokenResolver> resolvers;
+
+  public TokenResolverChain(List<TokenResolver> resolvers) {
+    this.resolvers = List.copyOf(resolvers);
+    log.info("토큰 리졸버 순서: {}", this.resolvers.stream().map(resolver -> resolver.getClass().getSimpleName()).toList());
+  }
+
+  public Optional<String> resolve(HttpServletRequest request, RouteType routeType) {
+    for (TokenResolver resolver : resolvers) {
+      Optional<String> token = resolver.resolve(request, routeType);
+      if (token.isPresent()) {
+        return token;
+      }
+    }
+    return Optional.empty();
+  }
+}
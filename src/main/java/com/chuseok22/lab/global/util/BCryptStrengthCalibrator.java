@@ -0,0 +1,48 @@
+package com.chuseok22.lab.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 서버 성능에 맞는 BCrypt strength 측정
+ * 한 번의 해시가 목표 시간 이내인 가장 큰 strength 를 선택합니다.
+ */
+@Slf4j
+public class BCryptStrengthCalibrator {
+
+  private static final String SAMPLE_PASSWORD = "calibration-password";
+  private static final int SAMPLES = 3;
+
+  private BCryptStrengthCalibrator() {
+  }
+
+  /**
+   * @param targetMillis 목표 해시 시간 (밀리초)
+   * @param minStrength  최소 strength (목표 시간을 넘더라도 보장)
+   * @param maxStrength  최대 strength
+   * @return 선택된 strength
+   */
+  public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+    int strength = minStrength;
+    long elapsedMillis = measure(strength);
+    // strength 가 1 증가하면 해시 시간은 약 2배
+    while (strength < maxStrength && elapsedMillis * 2 <= targetMillis) {
+      strength++;
+      elapsedMillis = measure(strength);
+    }
+    log.info("BCrypt strength 측정 완료: strength={}, 해시 시간={}ms (목표 {}ms)", strength, elapsedMillis, targetMillis);
+    return strength;
+  }
+
+  // 최소 측정 시간 (JIT 워밍업 영향 제외)
+  private static long measure(int strength) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < SAMPLES; i++) {
+      long start = System.nanoTime();
+      encoder.encode(SAMPLE_PASSWORD);
+      best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+    }
+    return best;
+  }
+}
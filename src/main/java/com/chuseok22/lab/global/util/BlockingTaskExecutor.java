@@ -0,0 +1,107 @@
+package com.chuseok22.lab.global.util;
+
+import com.chuseok22.lab.global.exception.CustomException;
+import com.chuseok22.lab.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 처리 흐름 중 블로킹 호출(JPA, 토큰 복호화 등) 전용 실행기
+ * 네트워크 대기는 WebClient 이벤트 루프에서 처리하고, 블로킹 구간만 이 실행기에서 수행합니다.
+ * 대기열이 가득 차면 대기하지 않고 즉시 거절하며, 거절된 작업은 503(SERVER_BUSY)으로 응답합니다.
+ * (Executor 빈으로 노출하지 않아 Spring Boot 기본 applicationTaskExecutor 구성에 영향 없음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BlockingTaskExecutor {
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${async.blocking.pool-size:16}")
+  private int poolSize; // DB 커넥션 풀 크기 수준으로 설정
+
+  @Value("${async.blocking.queue-capacity:256}")
+  private int queueCapacity;
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreadsEnabled;
+
+  private ExecutorService executor;
+  private Executor boundedExecutor;
+  private Counter rejectedCounter;
+
+  @PostConstruct
+  public void init() {
+    ExecutorService delegate;
+    if (virtualThreadsEnabled) {
+      delegate = Executors.newVirtualThreadPerTaskExecutor();
+    } else {
+      ThreadPoolExecutor pool = new ThreadPoolExecutor(
+          poolSize, poolSize,
+          0L, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(queueCapacity),
+          new ThreadPoolExecutor.AbortPolicy()
+      );
+      Gauge.builder("async.blocking.queue.depth", pool, e -> e.getQueue().size())
+          .description("블로킹 작업 대기열 길이")
+          .register(meterRegistry);
+      delegate = pool;
+    }
+    executor = ExecutorServiceMetrics.monitor(meterRegistry, delegate, "blockingTask");
+    rejectedCounter = Counter.builder("async.blocking.rejected")
+        .description("대기열 초과로 거절된 블로킹 작업 수")
+        .register(meterRegistry);
+    boundedExecutor = command -> {
+      try {
+        executor.execute(command);
+      } catch (RejectedExecutionException e) {
+        rejectedCounter.increment();
+        throw new CustomException(ErrorCode.SERVER_BUSY);
+      }
+    };
+    log.info("블로킹 작업 실행기: {}", virtualThreadsEnabled ? "가상 스레드" : "스레드 " + poolSize + "개, 대기열 " + queueCapacity);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  /**
+   * 블로킹 작업 실행
+   * 대기열 초과 시 SERVER_BUSY 로 실패한 future 를 반환합니다.
+   */
+  public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+    try {
+      return CompletableFuture.supplyAsync(task, boundedExecutor);
+    } catch (CustomException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * CompletableFuture.thenApplyAsync 등에 전달할 실행기
+   * 대기열 초과 시 해당 단계가 SERVER_BUSY 로 실패합니다.
+   */
+  public Executor executor() {
+    return boundedExecutor;
+  }
+}
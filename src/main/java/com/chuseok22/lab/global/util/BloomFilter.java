@@ -0,0 +1,84 @@
+package com.chuseok22.lab.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter (thread-safe, lock-free)
+ * mightContain 이 false 이면 확실히 존재하지 않음, true 이면 존재할 가능성 있음
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitSize;
+  private final int hashCount;
+
+  /**
+   * @param expectedInsertions 예상 저장 개수
+   * @param falsePositiveRate  목표 오탐률 (0 ~ 1)
+   */
+  public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bitSize = Math.max(64, m);
+    this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    this.bits = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+  }
+
+  public void put(String value) {
+    long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+    long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(hash1 + i * hash2, bitSize);
+      setBit(index);
+    }
+  }
+
+  public boolean mightContain(String value) {
+    long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+    long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(hash1 + i * hash2, bitSize);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 현재 저장 상태 기준 예상 오탐률
+   */
+  public double expectedFalsePositiveRate() {
+    long setBits = 0;
+    for (int i = 0; i < bits.length(); i++) {
+      setBits += Long.bitCount(bits.get(i));
+    }
+    return Math.pow((double) setBits / bitSize, hashCount);
+  }
+
+  private void setBit(long index) {
+    int word = (int) (index >>> 6);
+    long mask = 1L << index;
+    long current;
+    do {
+      current = bits.get(word);
+      if ((current & mask) != 0) {
+        return;
+      }
+    } while (!bits.compareAndSet(word, current, current | mask));
+  }
+
+  // FNV-1a 64bit + splitmix64 finalizer
+  private static long hash(String value, long seed) {
+    long hash = 0xCBF29CE484222325L ^ seed;
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    for (byte b : bytes) {
+      hash ^= b;
+      hash *= 0x100000001B3L;
+    }
+    hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+    return hash ^ (hash >>> 31);
+  }
+}
@@ -7,11 +7,11 @@ import com.chuseok22.lab.global.exception.CustomException;
 import com.chuseok22.lab.global.exception.ErrorCode;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
@@ -26,22 +26,20 @@ public class CookieUtil {
 
   /**
    * 특정 쿠키를 반환합니다
+   * 쿠키가 없는 것은 정상 흐름(비로그인 요청)이므로 예외 대신 Optional.empty() 를 반환합니다.
    */
-  @Transactional(readOnly = true)
-  public Cookie getCookie(HttpServletRequest request, String name) {
+  public Optional<Cookie> findCookie(HttpServletRequest request, String name) {
     Cookie[] cookies = request.getCookies();
     if (cookies == null) {
-      log.error("쿠키가 존재하지 않습니다.");
-      throw new CustomException(ErrorCode.COOKIES_NOT_FOUND);
+      return Optional.empty();
     }
 
     for (Cookie cookie : cookies) {
       if (cookie.getName().equalsIgnoreCase(name)) {
-        return cookie;
+        return Optional.of(cookie);
       }
     }
-    log.error("{}에 해당하는 쿠키가 없습니다.", name);
-    throw new CustomException(ErrorCode.COOKIES_NOT_FOUND);
+    return Optional.empty();
   }
 
   /**
@@ -49,7 +47,6 @@ public class CookieUtil {
    *
    * @return 발급된 쿠키를 반환합니다
    */
-  @Transactional
   public Cookie createCookie(String name, String token) {
     if (name.equals(ACCESS_TOKEN.getPrefix())) {
       return createAccessTokenCookie(token);
@@ -67,7 +64,6 @@ public class CookieUtil {
    * @param name 쿠키 key (accessToken, refreshToken)
    * @return MaxAge=0 인 쿠키를 반환합니다
    */
-  @Transactional
   public Cookie createDeleteCookie(String name) {
     Cookie cookie = new Cookie(name, null);
     cookie.setHttpOnly(true);
@@ -0,0 +1,142 @@
+package com.chuseok22.lab.global.util;
+
+import com.chuseok22.lab.global.exception.CustomException;
+import com.chuseok22.lab.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 스트리밍 JSON 필드 추출
+ * 응답 Body 를 JsonNode 트리로 변환하지 않고 non-blocking 파서로 토큰 단위로 읽어 루트 객체의 지정된 필드만 보관합니다.
+ * 지정된 필드를 모두 찾으면 나머지 Body 는 읽지 않고 구독을 취소합니다.
+ * 메모리 사용량은 보관하는 필드 값과 현재 읽는 토큰 크기로 제한됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JsonFieldExtractor {
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 루트 객체에서 지정된 필드만 추출
+   *
+   * @param body   응답 Body (읽은 버퍼는 즉시 해제)
+   * @param fields 추출할 루트 필드명
+   * @return 찾은 필드만 담은 객체 (없는 필드는 포함되지 않음)
+   * @throws CustomException INVALID_RESPONSE_BODY JSON 형식이 잘못된 경우
+   */
+  public Mono<JsonNode> extract(Flux<DataBuffer> body, Set<String> fields) {
+    return Mono.defer(() -> {
+          FieldScanner scanner = new FieldScanner(fields);
+          return body
+              .<Boolean>handle((buffer, sink) -> {
+                try {
+                  sink.next(scanner.feed(buffer));
+                } catch (IOException e) {
+                  sink.error(e);
+                } finally {
+                  DataBufferUtils.release(buffer);
+                }
+              })
+              .takeUntil(Boolean::booleanValue) // 모든 필드를 찾으면 나머지 Body 구독 취소
+              .then(Mono.fromCallable(scanner::finish));
+        })
+        .onErrorMap(IOException.class, e -> {
+          log.error("JSON 필드 추출 실패: fields={}, error={}", fields, e.getMessage());
+          return new CustomException(ErrorCode.INVALID_RESPONSE_BODY);
+        });
+  }
+
+  /**
+   * 요청 1건의 파싱 상태
+   */
+  private final class FieldScanner {
+
+    private final Set<String> fields;
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    private final ObjectNode result = objectMapper.createObjectNode();
+
+    private int depth;
+    private String capturingField; // 값을 읽고 있는 필드명
+    private TokenBuffer captured; // 필드 값 토큰 (중첩 객체, 배열 포함)
+    private boolean done;
+
+    private FieldScanner(Set<String> fields) throws IOException {
+      this.fields = fields;
+      this.parser = objectMapper.getFactory().createNonBlockingByteBufferParser();
+      this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * @return 모든 필드를 찾았거나 루트가 종료되었으면 true
+     */
+    private boolean feed(DataBuffer buffer) throws IOException {
+      try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+        while (!done && iterator.hasNext()) {
+          feeder.feedInput(iterator.next());
+          drain();
+        }
+      }
+      return done;
+    }
+
+    private JsonNode finish() throws IOException {
+      if (!done) {
+        feeder.endOfInput();
+        drain();
+      }
+      parser.close();
+      return result;
+    }
+
+    // 입력된 바이트로 완성된 토큰만 처리 (NOT_AVAILABLE: 다음 버퍼 필요)
+    private void drain() throws IOException {
+      JsonToken token;
+      while (!done && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+        onToken(token);
+      }
+    }
+
+    private void onToken(JsonToken token) throws IOException {
+      if (token.isStructStart()) {
+        depth++;
+      } else if (token.isStructEnd()) {
+        depth--;
+      }
+
+      if (captured != null) {
+        captured.copyCurrentEvent(parser);
+        if (depth == 1) { // 스칼라 값 또는 중첩 구조 종료
+          JsonNode value = objectMapper.readTree(captured.asParser());
+          result.set(capturingField, value);
+          captured = null;
+          done = result.size() == fields.size();
+        }
+        return;
+      }
+
+      if (depth == 0) { // 루트 종료
+        done = true;
+      } else if (depth == 1 && token == JsonToken.FIELD_NAME && fields.contains(parser.currentName())) {
+        capturingField = parser.currentName();
+        captured = new TokenBuffer(parser);
+      }
+    }
+  }
+}
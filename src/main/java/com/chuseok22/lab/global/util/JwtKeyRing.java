@@ -0,0 +1,219 @@
+package com.chuseok22.lab.global.util;
+
+import com.chuseok22.lab.global.config.JwtKeyRingProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 서명/검증 키 관리
+ * - HS256: jwt.secret-key 단일 HMAC 키
+ * - ES256: kid 로 색인된 키 링, 헤더의 kid 로 검증 키를 O(1) 조회
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+  public static final String ES256 = "ES256";
+  private static final int P256_COORDINATE_SIZE = 32;
+
+  private final JwtKeyRingProperties properties;
+  private final ObjectMapper objectMapper;
+
+  @Value("${jwt.secret-key}")
+  private String secretKey;
+
+  private SecretKey hmacKey;
+  private boolean asymmetric;
+  private boolean hmacAccepted;
+  private String activeKid;
+  private PrivateKey activePrivateKey;
+  private Map<String, PublicKey> verificationKeys = Map.of();
+
+  // 공개 키 JWKS (기동 시 1회 직렬화)
+  @Getter
+  private byte[] jwksJson;
+  @Getter
+  private String jwksEtag;
+
+  @PostConstruct
+  public void init() {
+    hmacKey = createHmacKey();
+    asymmetric = ES256.equalsIgnoreCase(properties.getAlgorithm());
+    hmacAccepted = !asymmetric || properties.isAcceptLegacyHmac();
+
+    if (asymmetric) {
+      loadKeyRing();
+    }
+    jwksJson = createJwksJson();
+    jwksEtag = "\"" + HexFormat.of().formatHex(sha256(jwksJson), 0, 16) + "\"";
+    log.info("JWT 서명 알고리즘: {}, 활성 kid: {}, 검증 키 수: {}",
+        asymmetric ? ES256 : "HS256", activeKid, verificationKeys.size());
+  }
+
+  /**
+   * 활성 키로 서명 (ES256 인 경우 헤더에 kid 포함)
+   */
+  public JwtBuilder sign(JwtBuilder builder) {
+    if (asymmetric) {
+      return builder
+          .header().keyId(activeKid).and()
+          .signWith(activePrivateKey, Jwts.SIG.ES256);
+    }
+    return builder.signWith(hmacKey);
+  }
+
+  /**
+   * 토큰 헤더의 kid 로 검증 키 조회
+   */
+  @Override
+  protected Key locate(JwsHeader header) {
+    String kid = header.getKeyId();
+    if (kid == null) {
+      if (!hmacAccepted) {
+        throw new UnsupportedJwtException("kid가 없는 HMAC 서명 토큰은 허용되지 않습니다.");
+      }
+      return hmacKey;
+    }
+
+    PublicKey publicKey = verificationKeys.get(kid);
+    if (publicKey == null) {
+      throw new UnknownKidException(kid);
+    }
+    return publicKey;
+  }
+
+  private void loadKeyRing() {
+    Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+    for (JwtKeyRingProperties.Key key : properties.getKeys()) {
+      publicKeys.put(key.getKid(), parsePublicKey(key.getPublicKey()));
+      if (key.getKid().equals(properties.getActiveKid()) && key.getPrivateKey() != null) {
+        activePrivateKey = parsePrivateKey(key.getPrivateKey());
+      }
+    }
+    activeKid = properties.getActiveKid();
+
+    if (activePrivateKey == null) {
+      // 키 설정이 없는 경우 임시 키 생성 (재기동 시 기존 토큰 무효, 다중 노드 환경 사용 불가)
+      log.warn("활성 서명 키(kid={})가 설정되지 않아 임시 ES256 키를 생성합니다.", activeKid);
+      KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+      activeKid = "ephemeral-" + UUID.randomUUID();
+      activePrivateKey = keyPair.getPrivate();
+      publicKeys.put(activeKid, keyPair.getPublic());
+    }
+    verificationKeys = Map.copyOf(publicKeys);
+  }
+
+  /**
+   * 공개 키 목록을 JWKS(RFC 7517) JSON 으로 직렬화
+   */
+  private byte[] createJwksJson() {
+    List<Map<String, String>> keys = new ArrayList<>();
+    verificationKeys.forEach((kid, publicKey) -> {
+      ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+      Map<String, String> jwk = new LinkedHashMap<>();
+      jwk.put("kty", "EC");
+      jwk.put("crv", "P-256");
+      jwk.put("use", "sig");
+      jwk.put("alg", ES256);
+      jwk.put("kid", kid);
+      jwk.put("x", encodeCoordinate(ecPublicKey.getW().getAffineX()));
+      jwk.put("y", encodeCoordinate(ecPublicKey.getW().getAffineY()));
+      keys.add(jwk);
+    });
+
+    try {
+      return objectMapper.writeValueAsBytes(Map.of("keys", keys));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("JWKS 직렬화 실패", e);
+    }
+  }
+
+  private SecretKey createHmacKey() {
+    try {
+      // Base64 문자열로부터 SecretKey를 생성
+      return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    } catch (IllegalArgumentException e) {
+      log.error("비밀 키 생성 실패: {}", e.getMessage());
+      throw e; // 예외 재발생
+    }
+  }
+
+  private PrivateKey parsePrivateKey(String base64) {
+    try {
+      return KeyFactory.getInstance("EC")
+          .generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(base64)));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("ES256 개인 키 파싱 실패", e);
+    }
+  }
+
+  private PublicKey parsePublicKey(String base64) {
+    try {
+      return KeyFactory.getInstance("EC")
+          .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(base64)));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("ES256 공개 키 파싱 실패", e);
+    }
+  }
+
+  // EC 좌표를 고정 길이(32 byte) unsigned big-endian Base64URL 로 인코딩
+  private static String encodeCoordinate(BigInteger value) {
+    byte[] bytes = value.toByteArray();
+    byte[] fixed = new byte[P256_COORDINATE_SIZE];
+    int srcPos = Math.max(0, bytes.length - P256_COORDINATE_SIZE);
+    int length = bytes.length - srcPos;
+    System.arraycopy(bytes, srcPos, fixed, P256_COORDINATE_SIZE - length, length);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+  }
+
+  private static byte[] sha256(byte[] bytes) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(bytes);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
+  /**
+   * 등록되지 않은 kid (이 노드에 아직 배포되지 않은 새 키일 수 있으므로 거절 캐시에 보관하지 않음)
+   */
+  public static class UnknownKidException extends UnsupportedJwtException {
+
+    public UnknownKidException(String kid) {
+      super("등록되지 않은 kid 입니다: " + kid);
+    }
+  }
+}
@@ -4,25 +4,38 @@ import static com.chuseok22.lab.domain.auth.vo.TokenCategory.ACCESS_TOKEN;
 import static com.chuseok22.lab.domain.auth.vo.TokenCategory.REFRESH_TOKEN;
 
 import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
+import com.chuseok22.lab.domain.auth.dto.TokenClaims;
 import com.chuseok22.lab.domain.auth.service.CustomUserDetailsService;
-import com.chuseok22.lab.global.exception.CustomException;
-import com.chuseok22.lab.global.exception.ErrorCode;
+import com.chuseok22.lab.domain.auth.service.TokenRejectionMonitor;
+import com.chuseok22.lab.domain.auth.vo.JwtClaimProfile;
+import com.chuseok22.lab.domain.auth.vo.TokenCategory;
+import com.chuseok22.lab.domain.auth.vo.TokenRejectionCause;
+import com.chuseok22.lab.domain.member.vo.Role;
+import com.chuseok22.lab.global.util.JwtKeyRing.UnknownKidException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -33,10 +46,8 @@ import org.springframework.stereotype.Component;
 public class JwtUtil {
 
   private final CustomUserDetailsService customUserDetailsService;
-  private final RedisTemplate<String, Object> redisTemplate;
-
-  @Value("${jwt.secret-key}")
-  private String secretKey;
+  private final JwtKeyRing jwtKeyRing;
+  private final TokenRejectionMonitor tokenRejectionMonitor;
 
   @Value("${jwt.access-exp-time}")
   private Long accessTokenExpTime; // AccessToken 만료 시간
@@ -47,47 +58,70 @@ public class JwtUtil {
   @Value("${jwt.issuer}")
   private String issuer; // JWT 발급자
 
-  public static final String REFRESH_KEY_PREFIX = "RT:";
+  @Value("${jwt.verified-cache.max-size:10000}")
+  private long verifiedCacheMaxSize; // 검증 완료 토큰 캐시 최대 개수
+
+  @Value("${jwt.rejected-cache.max-size:10000}")
+  private long rejectedCacheMaxSize; // 거절 토큰 캐시 최대 개수
+
+  @Value("${jwt.rejected-cache.ttl-seconds:600}")
+  private long rejectedCacheTtlSeconds; // 거절 토큰 캐시 유지 시간
+
+  @Value("${jwt.stateless-auth.enabled:false}")
+  private boolean statelessAuthEnabled; // true: 토큰 클레임만으로 인증 (회원 DB 조회 생략)
+
+  @Value("${jwt.claim-profile:LEGACY}")
+  private JwtClaimProfile claimProfile; // 토큰 발급 클레임 방식 (검증은 두 방식 모두 허용)
+
+  // 축약(COMPACT) 클레임 이름
+  private static final String COMPACT_CATEGORY = "c";
+  private static final String COMPACT_MEMBER_ID = "m";
+  private static final String COMPACT_ROLE = "r";
+  private static final String COMPACT_SESSION_ID = "s";
+
+  // 서버 기동 시 한 번만 생성하여 재사용 (검증 키는 헤더의 kid 로 키 링에서 조회)
+  private JwtParser jwtParser;
+
+  // 검증 완료 토큰 캐시 (key: 토큰 SHA-256 digest, 토큰 만료 시 제거)
+  private Cache<String, TokenClaims> verifiedTokenCache;
+
+  // 거절 토큰 캐시 (key: 토큰 SHA-256 digest), 같은 잘못된 토큰의 반복 요청은 서명 검증 없이 거절
+  private Cache<String, TokenRejection> rejectedTokenCache;
+
+  @PostConstruct
+  public void init() {
+    jwtParser = Jwts.parser()
+        .keyLocator(jwtKeyRing)
+        .build();
+    verifiedTokenCache = Caffeine.newBuilder()
+        .maximumSize(verifiedCacheMaxSize)
+        .expireAfter(new TokenExpiry())
+        .build();
+    rejectedTokenCache = Caffeine.newBuilder()
+        .maximumSize(rejectedCacheMaxSize)
+        .expireAfterWrite(rejectedCacheTtlSeconds, TimeUnit.SECONDS)
+        .build();
+  }
 
   // 토큰에서 username 파싱
   public String getUsername(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload()
-        .get("username", String.class);
+    return verifyToken(token).username();
   }
 
   // 토큰에서 role 파싱
   public String getRole(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload()
-        .get("role", String.class);
+    return verifyToken(token).role();
   }
 
   // 토큰 만료 여부 확인
   public Boolean isExpired(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload()
-        .getExpiration()
-        .before(new Date());
+    return verifyToken(token).isExpired();
   }
 
   // Access/Refresh 토큰 여부
   public String getCategory(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload()
-        .get("category", String.class);
+    TokenCategory category = verifyToken(token).category();
+    return category != null ? category.getPrefix() : null;
   }
 
   /**
@@ -97,8 +131,18 @@ public class JwtUtil {
    * @return
    */
   public String createAccessToken(CustomUserDetails customUserDetails) {
+    return createAccessToken(customUserDetails, null);
+  }
+
+  /**
+   * AccessToken 생성
+   *
+   * @param customUserDetails 회원 상세 정보
+   * @param sessionId         로그인 세션(기기) id
+   */
+  public String createAccessToken(CustomUserDetails customUserDetails, String sessionId) {
     log.debug("엑세스 토큰 생성 중: 회원: {}", customUserDetails.getUsername());
-    return createToken(ACCESS_TOKEN.getPrefix(), customUserDetails, accessTokenExpTime);
+    return createToken(ACCESS_TOKEN, customUserDetails, sessionId, accessTokenExpTime);
   }
 
   /**
@@ -108,74 +152,146 @@ public class JwtUtil {
    * @return
    */
   public String createRefreshToken(CustomUserDetails customUserDetails) {
+    return createRefreshToken(customUserDetails, null);
+  }
+
+  /**
+   * RefreshToken 생성
+   *
+   * @param customUserDetails 회원 상세 정보
+   * @param sessionId         로그인 세션(기기) id
+   */
+  public String createRefreshToken(CustomUserDetails customUserDetails, String sessionId) {
     log.debug("리프래시 토큰 생성 중: 회원: {}", customUserDetails.getUsername());
-    return createToken(REFRESH_TOKEN.getPrefix(), customUserDetails, refreshTokenExpTime);
+    return createToken(REFRESH_TOKEN, customUserDetails, sessionId, refreshTokenExpTime);
   }
 
   /**
    * JWT 토큰 생성 메서드
    *
    * @param customUserDetails 회원 상세 정보
+   * @param sessionId         로그인 세션(기기) id
    * @param expiredAt         만료 시간
    * @return 생성된 JWT 토큰
    */
-  private String createToken(String category, CustomUserDetails customUserDetails, Long expiredAt) {
-
-    return Jwts.builder()
-        .subject(customUserDetails.getUsername())
-        .claim("category", category)
-        .claim("username", customUserDetails.getUsername())
-        .claim("role", customUserDetails.getMember().getRole())
-        .issuer(issuer)
-        .issuedAt(new Date(System.currentTimeMillis()))
-        .expiration(new Date(System.currentTimeMillis() + expiredAt))
-        .signWith(getSignKey())
-        .compact();
+  private String createToken(TokenCategory category, CustomUserDetails customUserDetails, String sessionId, Long expiredAt) {
+
+    JwtBuilder builder = Jwts.builder()
+        .subject(customUserDetails.getUsername());
+
+    if (claimProfile == JwtClaimProfile.COMPACT) {
+      Role role = customUserDetails.getRole();
+      builder
+          .id(compactUuid(UUID.randomUUID()))
+          .claim(COMPACT_CATEGORY, category.getCode())
+          .claim(COMPACT_MEMBER_ID, compactUuid(UUID.fromString(customUserDetails.getMemberId())))
+          .claim(COMPACT_ROLE, role != null ? role.getCode() : null)
+          .claim(COMPACT_SESSION_ID, sessionId);
+    } else {
+      builder
+          .id(UUID.randomUUID().toString())
+          .claim("category", category.getPrefix())
+          .claim("username", customUserDetails.getUsername())
+          .claim("memberId", customUserDetails.getMemberId())
+          .claim("role", customUserDetails.getRole())
+          .claim("sid", sessionId)
+          .issuer(issuer);
+    }
+
+    long now = System.currentTimeMillis();
+    builder
+        .issuedAt(new Date(now))
+        .expiration(new Date(now + expiredAt));
+    return jwtKeyRing.sign(builder).compact();
   }
 
   /**
-   * JWT 토큰 유효성 검사
+   * JWT 토큰을 한 번만 파싱 및 서명 검증하여 클레임을 반환합니다.
+   * 이미 검증된 토큰은 캐시에서 반환하여 HMAC 검증을 생략합니다.
    *
    * @param token 검증할 JWT 토큰
-   * @return 유효 여부
+   * @return 검증된 클레임
+   * @throws io.jsonwebtoken.JwtException 만료, 위조 등 유효하지 않은 토큰
+   * @throws IllegalArgumentException     토큰이 비어있는 경우
    */
-  public boolean validateToken(String token) throws ExpiredJwtException {
+  public TokenClaims verifyToken(String token) {
+    if (token == null || token.isBlank()) {
+      throw new IllegalArgumentException("JWT 토큰이 비어있습니다.");
+    }
+    return verifyToken(token, digest(token));
+  }
+
+  private TokenClaims verifyToken(String token, String digest) {
+    TokenClaims cached = verifiedTokenCache.getIfPresent(digest);
+    if (cached != null && !cached.isExpired()) {
+      return cached;
+    }
+
+    TokenClaims tokenClaims = toTokenClaims(jwtParser.parseSignedClaims(token).getPayload());
+    verifiedTokenCache.put(digest, tokenClaims);
+    return tokenClaims;
+  }
+
+  /**
+   * JWT 토큰을 검증하고 유효한 경우 클레임을 반환합니다.
+   * 이미 거절된 토큰은 거절 캐시에서 판정하여 서명 검증을 생략합니다.
+   * 거절 로그는 TokenRejectionMonitor 에서 사유별로 출력량을 제한합니다.
+   *
+   * @param token 검증할 JWT 토큰
+   * @return 검증된 클레임 (유효하지 않은 토큰인 경우 null)
+   * @throws ExpiredJwtException 만료된 토큰
+   */
+  public TokenClaims getVerifiedClaims(String token) throws ExpiredJwtException {
+    if (token == null || token.isBlank()) {
+      tokenRejectionMonitor.record(TokenRejectionCause.EMPTY, false, "");
+      return null;
+    }
+
+    String digest = digest(token);
+    TokenRejection rejected = rejectedTokenCache.getIfPresent(digest);
+    if (rejected != null) {
+      tokenRejectionMonitor.record(rejected.cause(), true, "");
+      if (rejected.expired() != null) {
+        throw rejected.expired(); // 만료된 토큰 예외를 호출한 쪽으로 전달
+      }
+      return null;
+    }
+
     try {
-      Jwts.parser()
-          .verifyWith(getSignKey())
-          .build()
-          .parseSignedClaims(token);
+      TokenClaims tokenClaims = verifyToken(token, digest);
       log.debug("JWT 토큰이 유효합니다.");
-      return true;
+      return tokenClaims;
     } catch (ExpiredJwtException e) {
-      log.warn("JWT 토큰이 만료되었습니다: {}", e.getMessage());
+      reject(digest, new TokenRejection(TokenRejectionCause.EXPIRED, e), e);
       throw e; // 만료된 토큰 예외를 호출한 쪽으로 전달
+    } catch (UnknownKidException e) {
+      // 키 교체 중 다른 노드가 새 kid 로 서명한 토큰일 수 있으므로 거절 캐시에 보관하지 않음
+      tokenRejectionMonitor.record(TokenRejectionCause.UNSUPPORTED, false, e.getMessage());
     } catch (UnsupportedJwtException e) {
-      log.warn("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
+      reject(digest, new TokenRejection(TokenRejectionCause.UNSUPPORTED, null), e);
     } catch (MalformedJwtException e) {
-      log.warn("형식이 잘못된 JWT 토큰입니다: {}", e.getMessage());
+      reject(digest, new TokenRejection(TokenRejectionCause.MALFORMED, null), e);
     } catch (SignatureException e) {
-      log.warn("JWT 서명이 유효하지 않습니다: {}", e.getMessage());
+      reject(digest, new TokenRejection(TokenRejectionCause.INVALID_SIGNATURE, null), e);
     } catch (IllegalArgumentException e) {
-      log.warn("JWT 토큰이 비어있거나 null입니다: {}", e.getMessage());
+      reject(digest, new TokenRejection(TokenRejectionCause.EMPTY, null), e);
     }
-    return false;
+    return null;
+  }
+
+  private void reject(String digest, TokenRejection rejection, RuntimeException e) {
+    rejectedTokenCache.put(digest, rejection);
+    tokenRejectionMonitor.record(rejection.cause(), false, e.getMessage());
   }
 
   /**
-   * JWT 서명에 사용할 키 생성
+   * JWT 토큰 유효성 검사
    *
-   * @return SecretKey 객체
+   * @param token 검증할 JWT 토큰
+   * @return 유효 여부
    */
-  private SecretKey getSignKey() {
-    try {
-      // Base64 문자열로부터 SecretKey를 생성
-      byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-      return Keys.hmacShaKeyFor(keyBytes);
-    } catch (IllegalArgumentException e) {
-      log.error("비밀 키 생성 실패: {}", e.getMessage());
-      throw e; // 예외 재발생
-    }
+  public boolean validateToken(String token) throws ExpiredJwtException {
+    return getVerifiedClaims(token) != null;
   }
 
   /**
@@ -185,9 +301,7 @@ public class JwtUtil {
    * @return 추출된 클레임
    */
   public Claims getClaims(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
+    return jwtParser
         .parseSignedClaims(token)
         .getPayload();
   }
@@ -196,11 +310,7 @@ public class JwtUtil {
    * token의 남은 유효기간(밀리초)를 반환합니다.
    */
   public long getRemainingValidationMilliSecond(String token) {
-    Claims claims = getClaims(token);
-    Date expiration = claims.getExpiration();
-    long nowMillis = System.currentTimeMillis();
-    long remaining = expiration.getTime() - nowMillis;
-    return remaining > 0 ? remaining : 0;
+    return verifyToken(token).getRemainingMillis();
   }
 
   /**
@@ -237,32 +347,119 @@ public class JwtUtil {
    * @return Authentication 객체
    */
   public Authentication getAuthentication(String token) {
-    Claims claims = getClaims(token);
-    String username = claims.getSubject();
+    return getAuthentication(verifyToken(token));
+  }
+
+  /**
+   * 검증된 클레임에서 Authentication 객체 생성
+   *
+   * @param tokenClaims 검증된 클레임
+   * @return Authentication 객체
+   */
+  public Authentication getAuthentication(TokenClaims tokenClaims) {
+    String username = tokenClaims.username();
     log.debug("JWT에서 인증정보 파싱: username={}", username);
-    CustomUserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-    return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    CustomUserDetails userDetails = isStatelessAuthenticable(tokenClaims)
+        ? customUserDetailsService.loadUserByClaims(tokenClaims)
+        : customUserDetailsService.loadUserByUsername(username);
+    UsernamePasswordAuthenticationToken authentication =
+        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    authentication.setDetails(tokenClaims); // 로그아웃 시 토큰 폐기에 사용
+    return authentication;
+  }
+
+  /**
+   * 클레임만으로 인증 가능한지 여부
+   * memberId, role 클레임이 없는 이전 버전 토큰은 DB 조회로 인증합니다.
+   */
+  private boolean isStatelessAuthenticable(TokenClaims tokenClaims) {
+    return statelessAuthEnabled
+        && tokenClaims.memberId() != null
+        && tokenClaims.role() != null;
+  }
+
+  /**
+   * jjwt Claims -> 불변 TokenClaims 변환
+   * 축약 카테고리 클레임(c)이 있으면 COMPACT, 없으면 LEGACY 방식으로 읽습니다.
+   */
+  private TokenClaims toTokenClaims(Claims claims) {
+    if (claims.containsKey(COMPACT_CATEGORY)) {
+      String memberId = claims.get(COMPACT_MEMBER_ID, String.class);
+      Role role = Role.fromCode(claims.get(COMPACT_ROLE, Integer.class));
+      return TokenClaims.builder()
+          .tokenId(claims.getId())
+          .username(claims.getSubject())
+          .memberId(memberId != null ? expandUuid(memberId).toString() : null)
+          .role(role != null ? role.name() : null)
+          .sessionId(claims.get(COMPACT_SESSION_ID, String.class))
+          .category(TokenCategory.fromCode(claims.get(COMPACT_CATEGORY, Integer.class)))
+          .expiresAt(claims.getExpiration().toInstant())
+          .build();
+    }
+    return TokenClaims.builder()
+        .tokenId(claims.getId())
+        .username(claims.getSubject())
+        .memberId(claims.get("memberId", String.class))
+        .role(claims.get("role", String.class))
+        .sessionId(claims.get("sid", String.class))
+        .category(TokenCategory.fromPrefix(claims.get("category", String.class)))
+        .expiresAt(claims.getExpiration().toInstant())
+        .build();
+  }
+
+  /**
+   * UUID -> Base64url 22자 (36자 문자열 대비 14바이트 절감)
+   */
+  private static String compactUuid(UUID uuid) {
+    ByteBuffer buffer = ByteBuffer.allocate(16)
+        .putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits());
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+  }
+
+  private static UUID expandUuid(String compact) {
+    ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(compact));
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+
+  /**
+   * 캐시 key로 사용할 토큰 SHA-256 digest 생성
+   */
+  private String digest(String token) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
   }
 
-  // 리프레시 토큰 redis 저장
-  public void saveRefreshToken(String key, String refreshToken) {
-    log.debug("리프레시 토큰 저장: key={}", key);
-    redisTemplate.opsForValue().set(
-        key,
-        refreshToken,
-        getRefreshExpirationTime(),
-        TimeUnit.MILLISECONDS
-    );
+  /**
+   * 거절 캐시 엔트리 (만료 토큰은 호출한 쪽에 다시 던질 예외를 함께 보관)
+   */
+  private record TokenRejection(TokenRejectionCause cause, ExpiredJwtException expired) {
+
   }
 
-  // redis에 저장된 리프레시 토큰을 삭제
-  public void deleteRefreshToken(String key) {
-    Boolean isDeleted = redisTemplate.delete(key);
-    if (isDeleted) {
-      log.debug("리프레시 토큰 삭제 성공");
-    } else { // 토큰이 이미 삭제되었거나, 존재하지 않는 경우
-      log.debug("리프레시 토큰을 찾을 수 없습니다.");
-      throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+  /**
+   * 캐시 엔트리를 토큰 만료 시각에 제거
+   */
+  private static class TokenExpiry implements Expiry<String, TokenClaims> {
+
+    @Override
+    public long expireAfterCreate(String key, TokenClaims value, long currentTime) {
+      return TimeUnit.MILLISECONDS.toNanos(value.getRemainingMillis());
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, TokenClaims value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, TokenClaims value, long currentTime, long currentDuration) {
+      return currentDuration;
     }
   }
 }
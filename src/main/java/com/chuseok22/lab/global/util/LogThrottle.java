@@ -0,0 +1,60 @@
+package com.chuseok22.lab.global.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리별 로그 출력 제한
+ * 주기(interval)마다 카테고리당 permits 건까지만 출력을 허용하고, 초과분은 개수만 집계하여 주기 종료 시 한 줄로 출력합니다.
+ * 비정상 클라이언트의 반복 요청으로 로그 I/O 가 병목이 되는 것을 방지합니다.
+ */
+@Component
+@Slf4j
+public class LogThrottle {
+
+  @Value("${log.throttle.permits-per-interval:10}")
+  private int permitsPerInterval; // 주기당 카테고리별 최대 출력 건수
+
+  private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+  /**
+   * 로그 출력 허용 여부
+   *
+   * @param category 로그 카테고리
+   * @return false 인 경우 호출한 쪽에서 로그를 생략합니다 (생략 건수는 집계됨)
+   */
+  public boolean tryAcquire(String category) {
+    Window window = windows.computeIfAbsent(category, key -> new Window());
+    if (window.emitted.incrementAndGet() <= permitsPerInterval) {
+      return true;
+    }
+    window.suppressed.incrementAndGet();
+    return false;
+  }
+
+  /**
+   * 주기 종료: 생략된 로그 건수 출력 후 카테고리별 허용량 초기화
+   */
+  @Scheduled(fixedDelayString = "${log.throttle.interval-millis:60000}", initialDelayString = "${log.throttle.interval-millis:60000}")
+  public void flush() {
+    windows.forEach((category, window) -> {
+      long suppressed = window.suppressed.getAndSet(0);
+      window.emitted.set(0);
+      if (suppressed > 0) {
+        log.warn("[{}] 로그 출력 제한으로 {}건 생략되었습니다.", category, suppressed);
+      }
+    });
+  }
+
+  private static class Window {
+
+    private final AtomicInteger emitted = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+  }
+}
@@ -0,0 +1,132 @@
+package com.chuseok22.lab.global.util;
+
+import com.chuseok22.lab.global.config.RateLimitPolicy;
+import com.chuseok22.lab.global.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 제한기
+ * 1. 노드 로컬 토큰 버킷 (키별 잠금, Redis 왕복 없이 명백한 폭주 차단)
+ * 2. Redis 슬라이딩 윈도우 (key: RL:정책:기준:값, 전체 노드 합산 한도)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimiter {
+
+  public static final String RATE_LIMIT_KEY_PREFIX = "RL:";
+  private static final int LOCAL_BUCKET_MAX_SIZE = 100_000;
+
+  /**
+   * 구간 밖 요청 제거 -> 개수 확인 -> 요청 기록 (Redis 서버 시각 기준, 1회 왕복)
+   * 반환값: 0 허용, 양수 재시도까지 남은 시간(ms)
+   */
+  private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+      local time = redis.call('TIME')
+      local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+      local window = tonumber(ARGV[1])
+      redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window)
+      if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[2]) then
+        redis.call('ZADD', KEYS[1], now, ARGV[3])
+        redis.call('PEXPIRE', KEYS[1], window)
+        return 0
+      end
+      local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+      return math.max(tonumber(oldest[2]) + window - now, 1)
+      """, Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RateLimitProperties rateLimitProperties;
+  private final MeterRegistry meterRegistry;
+
+  private final Cache<String, TokenBucket> localBuckets = Caffeine.newBuilder()
+      .maximumSize(LOCAL_BUCKET_MAX_SIZE)
+      .expireAfterAccess(Duration.ofMinutes(10))
+      .build();
+
+  /**
+   * 요청 1건 허용 여부 확인
+   *
+   * @param policy    적용 정책
+   * @param dimension 제한 기준 (ip, username)
+   * @param value     기준 값
+   * @param limit     구간 내 최대 요청 수
+   * @return 0 이면 허용, 양수면 재시도까지 남은 시간(ms)
+   */
+  public long tryAcquire(RateLimitPolicy policy, String dimension, String value, int limit) {
+    String key = policy.name() + ":" + dimension + ":" + value;
+    long windowMillis = TimeUnit.SECONDS.toMillis(rateLimitProperties.getLimit(policy).getWindowSeconds());
+
+    // 1. 로컬 토큰 버킷 (노드 단독으로 한도 초과 시 Redis 조회 없이 거절)
+    long localWaitMillis = localBuckets.get(key, k -> new TokenBucket(limit, windowMillis)).tryConsume();
+    if (localWaitMillis > 0) {
+      reject(policy, "local");
+      return localWaitMillis;
+    }
+
+    // 2. Redis 슬라이딩 윈도우 (전체 노드 합산)
+    try {
+      Long waitMillis = stringRedisTemplate.execute(
+          SLIDING_WINDOW_SCRIPT,
+          List.of(RATE_LIMIT_KEY_PREFIX + key),
+          String.valueOf(windowMillis),
+          String.valueOf(limit),
+          UUID.randomUUID().toString()
+      );
+      if (waitMillis != null && waitMillis > 0) {
+        reject(policy, "redis");
+        return waitMillis;
+      }
+    } catch (Exception e) {
+      // Redis 장애 시 로컬 한도만 적용
+      log.error("Redis 요청 제한 확인 실패: key={}, error={}", key, e.getMessage());
+    }
+    return 0;
+  }
+
+  private void reject(RateLimitPolicy policy, String layer) {
+    meterRegistry.counter("rate.limit.rejected", "policy", policy.name(), "layer", layer).increment();
+  }
+
+  /**
+   * 노드 로컬 토큰 버킷 (windowMillis 동안 capacity 개 보충)
+   */
+  private static final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerMilli;
+    private double tokens;
+    private long lastRefillMillis;
+
+    private TokenBucket(int capacity, long windowMillis) {
+      this.capacity = capacity;
+      this.refillPerMilli = (double) capacity / windowMillis;
+      this.tokens = capacity;
+      this.lastRefillMillis = System.currentTimeMillis();
+    }
+
+    // 0: 허용, 양수: 다음 토큰까지 남은 시간(ms)
+    private synchronized long tryConsume() {
+      long now = System.currentTimeMillis();
+      tokens = Math.min(capacity, tokens + (now - lastRefillMillis) * refillPerMilli);
+      lastRefillMillis = now;
+      if (tokens >= 1) {
+        tokens -= 1;
+        return 0;
+      }
+      return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerMilli));
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.chuseok22.lab.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.chuseok22.lab.domain.auth.dto.RefreshTokenRotationResult;
+import com.chuseok22.lab.domain.auth.vo.RefreshTokenRotation;
+import com.chuseok22.lab.global.util.JwtUtil;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 리프레시 토큰 교체 스크립트 검증 (로컬 Redis localhost:6379 필요, 없으면 건너뜀)
+ * 여러 탭이 같은 리프레시 토큰으로 동시에 재발급하는 경우 세션이 폐기되지 않아야 합니다.
+ */
+class RefreshTokenServiceTest {
+
+  private static final String USER_AGENT = "Mozilla/5.0";
+
+  private LettuceConnectionFactory connectionFactory;
+  private StringRedisTemplate stringRedisTemplate;
+  private RefreshTokenService refreshTokenService;
+  private String memberId;
+  private String sessionId;
+
+  @BeforeEach
+  void setUp() {
+    connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+    connectionFactory.afterPropertiesSet();
+    try (RedisConnection connection = connectionFactory.getConnection()) {
+      connection.ping();
+    } catch (Exception e) {
+      connectionFactory.destroy();
+      Assumptions.abort("로컬 Redis 에 연결할 수 없습니다: " + e.getMessage());
+    }
+    stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+    JwtUtil jwtUtil = mock(JwtUtil.class);
+    when(jwtUtil.getRefreshExpirationTime()).thenReturn(86_400_000L);
+    refreshTokenService = new RefreshTokenService(stringRedisTemplate, jwtUtil);
+    ReflectionTestUtils.setField(refreshTokenService, "rotationGraceMillis", 10_000L);
+
+    memberId = UUID.randomUUID().toString();
+    sessionId = UUID.randomUUID().toString();
+    refreshTokenService.createSession(memberId, sessionId, "refresh-0", USER_AGENT);
+  }
+
+  @AfterEach
+  void tearDown() {
+    stringRedisTemplate.delete(RefreshTokenService.SESSION_KEY_PREFIX + memberId);
+    stringRedisTemplate.opsForZSet().remove(RefreshTokenService.SESSION_INDEX_KEY, memberId);
+    connectionFactory.destroy();
+  }
+
+  @Test
+  void concurrentRefreshWithSameTokenReusesRotatedToken() {
+    RefreshTokenRotationResult first = refreshTokenService.rotate(memberId, sessionId, "refresh-0", "refresh-1", USER_AGENT);
+    RefreshTokenRotationResult second = refreshTokenService.rotate(memberId, sessionId, "refresh-0", "refresh-2", USER_AGENT);
+
+    assertThat(first.rotation()).isEqualTo(RefreshTokenRotation.ROTATED);
+    assertThat(first.refreshToken()).isEqualTo("refresh-1");
+    assertThat(second.rotation()).isEqualTo(RefreshTokenRotation.CONCURRENT);
+    assertThat(second.refreshToken()).isEqualTo("refresh-1"); // 두 탭 모두 같은 토큰을 받음
+
+    // 세션 유지: 현재 토큰으로 다음 재발급 가능
+    RefreshTokenRotationResult next = refreshTokenService.rotate(memberId, sessionId, "refresh-1", "refresh-3", USER_AGENT);
+    assertThat(next.rotation()).isEqualTo(RefreshTokenRotation.ROTATED);
+    assertThat(refreshTokenService.getSessions(memberId)).hasSize(1);
+  }
+
+  @Test
+  void previousTokenAfterGraceWindowRevokesSession() throws InterruptedException {
+    ReflectionTestUtils.setField(refreshTokenService, "rotationGraceMillis", 0L);
+    refreshTokenService.rotate(memberId, sessionId, "refresh-0", "refresh-1", USER_AGENT);
+    Thread.sleep(5);
+
+    RefreshTokenRotationResult reused = refreshTokenService.rotate(memberId, sessionId, "refresh-0", "refresh-2", USER_AGENT);
+
+    assertThat(reused.rotation()).isEqualTo(RefreshTokenRotation.REUSED);
+    assertThat(refreshTokenService.rotate(memberId, sessionId, "refresh-1", "refresh-3", USER_AGENT).rotation())
+        .isEqualTo(RefreshTokenRotation.NOT_FOUND);
+  }
+
+  @Test
+  void olderTokenIsReuseEvenInsideGraceWindow() {
+    refreshTokenService.rotate(memberId, sessionId, "refresh-0", "refresh-1", USER_AGENT);
+    refreshTokenService.rotate(memberId, sessionId, "refresh-1", "refresh-2", USER_AGENT);
+
+    RefreshTokenRotationResult reused = refreshTokenService.rotate(memberId, sessionId, "refresh-0", "refresh-3", USER_AGENT);
+
+    assertThat(reused.rotation()).isEqualTo(RefreshTokenRotation.REUSED);
+  }
+}
@@ -0,0 +1,76 @@
+package com.chuseok22.lab.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.chuseok22.lab.domain.auth.dto.TokenClaims;
+import com.chuseok22.lab.domain.auth.vo.TokenCategory;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 세션 로그아웃 시 해당 세션의 엑세스 토큰 폐기 검증
+ */
+class TokenRevocationServiceTest {
+
+  private StringRedisTemplate stringRedisTemplate;
+  private TokenRevocationService tokenRevocationService;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    stringRedisTemplate = mock(StringRedisTemplate.class);
+    when(stringRedisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+    when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(mock(Cursor.class));
+
+    tokenRevocationService = new TokenRevocationService(stringRedisTemplate, mock(RedisMessageListenerContainer.class));
+    ReflectionTestUtils.setField(tokenRevocationService, "expectedInsertions", 1_000L);
+    ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveRate", 0.01);
+    ReflectionTestUtils.setField(tokenRevocationService, "accessTokenExpTime", 3_600_000L);
+    tokenRevocationService.init();
+  }
+
+  @Test
+  void revokedSessionRejectsItsAccessTokens() {
+    String sessionId = "session-1";
+    when(stringRedisTemplate.hasKey(TokenRevocationService.REVOKED_SESSION_KEY_PREFIX + sessionId)).thenReturn(true);
+
+    tokenRevocationService.revokeSession(sessionId);
+
+    assertThat(tokenRevocationService.isRevoked(accessTokenClaims("jti-1", sessionId))).isTrue();
+    assertThat(tokenRevocationService.isRevoked(accessTokenClaims("jti-2", sessionId))).isTrue(); // 재발급된 토큰
+  }
+
+  @Test
+  void otherSessionsSkipRedisLookup() {
+    tokenRevocationService.revokeSession("session-1");
+
+    assertThat(tokenRevocationService.isRevoked(accessTokenClaims("jti-3", "session-2"))).isFalse();
+    verify(stringRedisTemplate, never()).hasKey(anyString());
+  }
+
+  private TokenClaims accessTokenClaims(String tokenId, String sessionId) {
+    return TokenClaims.builder()
+        .tokenId(tokenId)
+        .username("user")
+        .memberId(UUID.randomUUID().toString())
+        .role("ROLE_USER")
+        .sessionId(sessionId)
+        .category(TokenCategory.ACCESS_TOKEN)
+        .expiresAt(Instant.now().plusSeconds(3600))
+        .build();
+  }
+}
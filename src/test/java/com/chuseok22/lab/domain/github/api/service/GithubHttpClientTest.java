@@ -0,0 +1,223 @@
+package com.chuseok22.lab.domain.github.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chuseok22.lab.global.exception.CustomException;
+import com.chuseok22.lab.global.exception.ErrorCode;
+import com.chuseok22.lab.global.util.JsonFieldExtractor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+/**
+ * 로컬 mock Github 서버(JDK HttpServer)를 이용한 GithubHttpClient 조건부 요청, rate limit 처리 검증
+ */
+class GithubHttpClientTest {
+
+  private static final String TOKEN = "ghp_test";
+  private static final String ETAG = "\"etag-1\"";
+  private static final String BODY = "{\"title\":\"테스트 이슈\"}";
+  private static final int PER_TOKEN_CONCURRENCY = 2;
+  private static final String LARGE_BODY = "{\"number\":1,\"title\":\"테스트 이슈\",\"labels\":[{\"name\":\"bug\"}],"
+      + "\"body\":\"" + "본문".repeat(100_000) + "\"}";
+
+  private HttpServer githubStub;
+  private final List<String> ifNoneMatchHeaders = new CopyOnWriteArrayList<>(); // 서버 스레드에서 기록
+  private final AtomicReference<StubResponse> nextResponse = new AtomicReference<>();
+  private final AtomicInteger inFlight = new AtomicInteger(); // 서버에서 처리 중인 요청 수
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private volatile long responseDelayMillis;
+  private GithubHttpClient githubHttpClient;
+  private String issueApiUrl;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    githubStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    githubStub.setExecutor(Executors.newVirtualThreadPerTaskExecutor()); // 동시 요청 처리
+    githubStub.createContext("/repos/", this::respond);
+    githubStub.start();
+    issueApiUrl = "http://localhost:" + githubStub.getAddress().getPort() + "/repos/chuseok22/lab/issues/1";
+
+    githubHttpClient = new GithubHttpClient(WebClient.create(), new JsonFieldExtractor(new ObjectMapper()),
+        new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(githubHttpClient, "etagCacheMaxSize", 100L);
+    ReflectionTestUtils.setField(githubHttpClient, "rateLimitReserve", 10);
+    ReflectionTestUtils.setField(githubHttpClient, "rateLimitMaxWaitMillis", 0L);
+    ReflectionTestUtils.setField(githubHttpClient, "perTokenConcurrency", PER_TOKEN_CONCURRENCY);
+    githubHttpClient.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    githubStub.stop(0);
+  }
+
+  @Test
+  void sendsIfNoneMatchAndReusesBodyOnNotModified() {
+    nextResponse.set(new StubResponse(200, BODY, 4000));
+    JsonNode first = githubHttpClient.getJson(issueApiUrl, TOKEN).block();
+
+    nextResponse.set(new StubResponse(304, null, 4000));
+    JsonNode second = githubHttpClient.getJson(issueApiUrl, TOKEN).block();
+
+    assertThat(ifNoneMatchHeaders).containsExactly(null, ETAG);
+    assertThat(second).isEqualTo(first);
+    assertThat(second.get("title").asText()).isEqualTo("테스트 이슈");
+  }
+
+  @Test
+  void servesStoredBodyWithoutRequestWhenQuotaIsLow() {
+    nextResponse.set(new StubResponse(200, BODY, 5)); // reserve(10) 이하
+    githubHttpClient.getJson(issueApiUrl, TOKEN).block();
+
+    JsonNode cached = githubHttpClient.getJson(issueApiUrl, TOKEN).block();
+
+    assertThat(ifNoneMatchHeaders).hasSize(1);
+    assertThat(cached.get("title").asText()).isEqualTo("테스트 이슈");
+  }
+
+  @Test
+  void rejectsWithoutRequestWhenQuotaIsExhaustedAndNothingStored() {
+    nextResponse.set(new StubResponse(200, BODY, 0));
+    githubHttpClient.getJson(issueApiUrl, TOKEN).block();
+
+    String otherIssueUrl = issueApiUrl.replace("/issues/1", "/issues/2");
+    assertThatThrownBy(() -> githubHttpClient.getJson(otherIssueUrl, TOKEN).block())
+        .isInstanceOfSatisfying(CustomException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.GITHUB_RATE_LIMITED));
+    assertThat(ifNoneMatchHeaders).hasSize(1);
+  }
+
+  @Test
+  void mapsRateLimitedForbiddenToRateLimitedError() {
+    nextResponse.set(new StubResponse(403, "{\"message\":\"API rate limit exceeded\"}", 0));
+
+    assertThatThrownBy(() -> githubHttpClient.getJson(issueApiUrl, TOKEN).block())
+        .isInstanceOfSatisfying(CustomException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.GITHUB_RATE_LIMITED));
+  }
+
+  @Test
+  void keepsOtherErrorsAsWebClientResponseException() {
+    nextResponse.set(new StubResponse(404, "{\"message\":\"Not Found\"}", 4000));
+
+    assertThatThrownBy(() -> githubHttpClient.getJson(issueApiUrl, TOKEN).block())
+        .isInstanceOf(WebClientResponseException.NotFound.class);
+  }
+
+  @Test
+  void tracksQuotaPerToken() {
+    nextResponse.set(new StubResponse(200, BODY, 0));
+    githubHttpClient.getJson(issueApiUrl, TOKEN).block();
+
+    nextResponse.set(new StubResponse(200, BODY, 4000));
+    JsonNode otherToken = githubHttpClient.getJson(issueApiUrl.replace("/issues/1", "/issues/2"), "ghp_other").block();
+
+    assertThat(otherToken.get("title").asText()).isEqualTo("테스트 이슈");
+    assertThat(ifNoneMatchHeaders).hasSize(2);
+  }
+
+  @Test
+  void extractsOnlyRequestedFields() {
+    nextResponse.set(new StubResponse(200, LARGE_BODY, 4000));
+
+    JsonNode fields = githubHttpClient.getJsonFields(issueApiUrl, TOKEN, Set.of("title", "labels")).block();
+
+    assertThat(fields.get("title").asText()).isEqualTo("테스트 이슈");
+    assertThat(fields.get("labels").get(0).get("name").asText()).isEqualTo("bug");
+    assertThat(fields.has("number")).isFalse();
+    assertThat(fields.has("body")).isFalse();
+  }
+
+  @Test
+  void reusesExtractedFieldsOnNotModified() {
+    nextResponse.set(new StubResponse(200, LARGE_BODY, 4000));
+    githubHttpClient.getJsonFields(issueApiUrl, TOKEN, Set.of("title")).block();
+
+    nextResponse.set(new StubResponse(304, null, 4000));
+    JsonNode second = githubHttpClient.getJsonFields(issueApiUrl, TOKEN, Set.of("title")).block();
+
+    assertThat(ifNoneMatchHeaders).containsExactly(null, ETAG);
+    assertThat(second.get("title").asText()).isEqualTo("테스트 이슈");
+  }
+
+  @Test
+  void limitsConcurrentRequestsPerToken() {
+    nextResponse.set(new StubResponse(200, BODY, 4000));
+    responseDelayMillis = 100;
+
+    List<JsonNode> responses = Flux.range(1, 6)
+        .flatMap(number -> githubHttpClient.getJson(issueApiUrl.replace("/issues/1", "/issues/" + number), TOKEN))
+        .collectList()
+        .block();
+
+    assertThat(responses).hasSize(6);
+    assertThat(maxInFlight.get()).isLessThanOrEqualTo(PER_TOKEN_CONCURRENCY);
+  }
+
+  @Test
+  void doesNotShareConcurrencyLimitAcrossTokens() {
+    nextResponse.set(new StubResponse(200, BODY, 4000));
+    responseDelayMillis = 100;
+
+    List<JsonNode> responses = Flux.range(1, 4)
+        .flatMap(number -> githubHttpClient.getJson(issueApiUrl.replace("/issues/1", "/issues/" + number),
+            number % 2 == 0 ? TOKEN : "ghp_other"))
+        .collectList()
+        .block();
+
+    assertThat(responses).hasSize(4);
+    assertThat(maxInFlight.get()).isGreaterThan(PER_TOKEN_CONCURRENCY); // 다른 토큰의 요청은 대기하지 않음
+  }
+
+  private void respond(HttpExchange exchange) throws IOException {
+    ifNoneMatchHeaders.add(exchange.getRequestHeaders().getFirst("If-None-Match"));
+    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(responseDelayMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    inFlight.decrementAndGet();
+    StubResponse response = nextResponse.get();
+    exchange.getResponseHeaders().add("ETag", ETAG);
+    exchange.getResponseHeaders().add("X-RateLimit-Remaining", String.valueOf(response.remaining()));
+    exchange.getResponseHeaders().add("X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()));
+    if (response.body() == null) {
+      exchange.sendResponseHeaders(response.status(), -1);
+      exchange.close();
+      return;
+    }
+    byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(response.status(), body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private record StubResponse(int status, String body, int remaining) {
+
+  }
+}
@@ -0,0 +1,174 @@
+package com.chuseok22.lab.domain.github.issue.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
+import com.chuseok22.lab.domain.auth.dto.TokenClaims;
+import com.chuseok22.lab.domain.auth.service.LoginAuthenticationExecutor;
+import com.chuseok22.lab.domain.auth.service.RefreshTokenService;
+import com.chuseok22.lab.domain.auth.service.TokenRejectionMonitor;
+import com.chuseok22.lab.domain.auth.service.TokenRevocationService;
+import com.chuseok22.lab.domain.auth.vo.TokenCategory;
+import com.chuseok22.lab.domain.github.issue.dto.IssueBatchItemResponse;
+import com.chuseok22.lab.domain.github.issue.dto.IssueResponse;
+import com.chuseok22.lab.domain.github.issue.service.IssueHelperService;
+import com.chuseok22.lab.domain.member.domain.Member;
+import com.chuseok22.lab.domain.member.vo.Role;
+import com.chuseok22.lab.global.config.RateLimitProperties;
+import com.chuseok22.lab.global.config.SecurityConfig;
+import com.chuseok22.lab.global.exception.ErrorResponseCatalog;
+import com.chuseok22.lab.global.filter.CustomLogoutHandler;
+import com.chuseok22.lab.global.filter.CustomLogoutSuccessHandler;
+import com.chuseok22.lab.global.filter.RouteClassifier;
+import com.chuseok22.lab.global.filter.RouteType;
+import com.chuseok22.lab.global.filter.TokenResolverChain;
+import com.chuseok22.lab.global.util.CookieUtil;
+import com.chuseok22.lab.global.util.JwtUtil;
+import com.chuseok22.lab.global.util.RateLimiter;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import reactor.core.publisher.Flux;
+
+/**
+ * 실제 SecurityFilterChain 을 거친 비동기 응답(CompletableFuture, Flux) 재디스패치 검증
+ * 토큰 필터는 최초 요청에서만 인증하므로, ASYNC 디스패치에서 인가가 거절되지 않아야 합니다.
+ */
+@SpringJUnitWebConfig(IssueHelperControllerTest.TestConfig.class)
+class IssueHelperControllerTest {
+
+  private static final String ACCESS_TOKEN = "access-token";
+  private static final String ISSUE_URL = "https://github.com/chuseok22/lab/issues/1";
+
+  @Configuration
+  @EnableWebMvc
+  @Import({SecurityConfig.class, IssueHelperController.class})
+  static class TestConfig {
+
+  }
+
+  @MockitoBean
+  private IssueHelperService issueHelperService;
+  @MockitoBean
+  private JwtUtil jwtUtil;
+  @MockitoBean
+  private CookieUtil cookieUtil;
+  @MockitoBean
+  private RefreshTokenService refreshTokenService;
+  @MockitoBean
+  private TokenRevocationService tokenRevocationService;
+  @MockitoBean
+  private TokenRejectionMonitor tokenRejectionMonitor;
+  @MockitoBean
+  private RouteClassifier routeClassifier;
+  @MockitoBean
+  private TokenResolverChain tokenResolverChain;
+  @MockitoBean
+  private ErrorResponseCatalog errorResponseCatalog;
+  @MockitoBean
+  private LoginAuthenticationExecutor loginAuthenticationExecutor;
+  @MockitoBean
+  private RateLimiter rateLimiter;
+  @MockitoBean
+  private RateLimitProperties rateLimitProperties;
+  @MockitoBean
+  private CustomLogoutHandler customLogoutHandler;
+  @MockitoBean
+  private CustomLogoutSuccessHandler customLogoutSuccessHandler;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  private MockMvc mockMvc;
+  private CustomUserDetails customUserDetails;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+        .apply(springSecurity())
+        .build();
+
+    // Bearer 토큰 인증 (TokenAuthenticationFilter 는 실제 필터, 토큰 해석/검증만 스텁)
+    customUserDetails = new CustomUserDetails(Member.builder()
+        .memberId(UUID.randomUUID())
+        .username("testUser")
+        .role(Role.ROLE_USER)
+        .build());
+    TokenClaims tokenClaims = TokenClaims.builder()
+        .tokenId("jti-1")
+        .username("testUser")
+        .role(Role.ROLE_USER.name())
+        .sessionId("session-1")
+        .category(TokenCategory.ACCESS_TOKEN)
+        .expiresAt(Instant.now().plusSeconds(3600))
+        .build();
+    when(routeClassifier.classify(anyString())).thenReturn(RouteType.API);
+    when(tokenResolverChain.resolve(any(), eq(RouteType.API))).thenReturn(Optional.of(ACCESS_TOKEN));
+    when(jwtUtil.getVerifiedClaims(ACCESS_TOKEN)).thenReturn(tokenClaims);
+    when(jwtUtil.getAuthentication(tokenClaims)).thenReturn(new UsernamePasswordAuthenticationToken(
+        customUserDetails, null, customUserDetails.getAuthorities()));
+  }
+
+  @Test
+  void authenticatedAsyncRequestReturnsOk() throws Exception {
+    when(issueHelperService.processIssueHelperAsync(eq(customUserDetails), any()))
+        .thenReturn(CompletableFuture.completedFuture(new IssueResponse("feat/1", "feat: 테스트")));
+
+    MvcResult mvcResult = mockMvc.perform(post("/api/github/issue/async")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"issueUrl\":\"" + ISSUE_URL + "\"}"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.branchName").value("feat/1"));
+    verify(issueHelperService).processIssueHelperAsync(eq(customUserDetails), any());
+  }
+
+  @Test
+  void authenticatedBatchRequestReturnsOk() throws Exception {
+    when(issueHelperService.processIssueHelperBatch(eq(customUserDetails), any()))
+        .thenReturn(Flux.just(IssueBatchItemResponse.builder()
+            .issueUrl(ISSUE_URL)
+            .branchName("feat/1")
+            .commitMessage("feat: 테스트")
+            .build()));
+
+    MvcResult mvcResult = mockMvc.perform(post("/api/github/issue/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_NDJSON)
+            .content("{\"issueUrls\":[\"" + ISSUE_URL + "\"]}"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult))
+        .andExpect(status().isOk());
+    verify(issueHelperService).processIssueHelperBatch(eq(customUserDetails), any());
+  }
+}
@@ -0,0 +1,161 @@
+package com.chuseok22.lab.domain.github.issue.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
+import com.chuseok22.lab.domain.github.api.dto.GithubIssueApiResponse;
+import com.chuseok22.lab.domain.github.api.service.GithubApiService;
+import com.chuseok22.lab.domain.github.issue.domain.IssueHelper;
+import com.chuseok22.lab.domain.github.issue.dto.IssueBatchItemResponse;
+import com.chuseok22.lab.domain.github.issue.dto.IssueBatchRequest;
+import com.chuseok22.lab.domain.github.issue.dto.IssueRequest;
+import com.chuseok22.lab.domain.github.issue.dto.IssueResponse;
+import com.chuseok22.lab.domain.github.issue.repository.IssueHelperRepository;
+import com.chuseok22.lab.domain.member.domain.Member;
+import com.chuseok22.lab.global.exception.CustomException;
+import com.chuseok22.lab.global.exception.ErrorCode;
+import com.chuseok22.lab.global.util.BlockingTaskExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 일괄 처리 시 이슈별 오류가 다른 이슈 결과에 영향을 주지 않고 해당 항목의 결과로 반환되는지,
+ * 같은 URL 이 동시에 저장된 경우 먼저 저장된 결과를 반환하는지 검증
+ */
+class IssueHelperServiceTest {
+
+  private static final String TOKEN = "ghp_test";
+  private static final String OK_URL = "https://github.com/chuseok22/lab/issues/1";
+  private static final String API_ERROR_URL = "https://github.com/chuseok22/lab/issues/2";
+  private static final String UNEXPECTED_ERROR_URL = "https://github.com/chuseok22/other/issues/3";
+  private static final String CONCURRENTLY_SAVED_URL = "https://github.com/chuseok22/lab/issues/4";
+
+  private GithubApiService githubApiService;
+  private BlockingTaskExecutor blockingTaskExecutor;
+  private IssueHelperRepository issueHelperRepository;
+  private IssueHelperService issueHelperService;
+
+  @BeforeEach
+  void setUp() {
+    blockingTaskExecutor = new BlockingTaskExecutor(new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(blockingTaskExecutor, "poolSize", 4);
+    ReflectionTestUtils.setField(blockingTaskExecutor, "queueCapacity", 256);
+    blockingTaskExecutor.init();
+
+    githubApiService = mock(GithubApiService.class);
+    when(githubApiService.resolveToken(any(), any())).thenReturn(TOKEN);
+    when(githubApiService.fetchIssueAsync(OK_URL, TOKEN)).thenReturn(CompletableFuture.completedFuture(
+        new GithubIssueApiResponse("[기능개선] 🚀 정상 이슈", OK_URL)));
+    when(githubApiService.fetchIssueAsync(API_ERROR_URL, TOKEN)).thenReturn(CompletableFuture.failedFuture(
+        new CustomException(ErrorCode.GITHUB_TOKEN_REQUIRED)));
+    when(githubApiService.fetchIssueAsync(UNEXPECTED_ERROR_URL, TOKEN)).thenReturn(CompletableFuture.failedFuture(
+        new IllegalStateException("connection reset")));
+
+    issueHelperRepository = mock(IssueHelperRepository.class);
+    when(issueHelperRepository.save(any(IssueHelper.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // 결과 캐시 비활성화, Redis 임대는 실패 시 노드 내 중복 제거만 적용
+    StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    IssueResponseCache issueResponseCache = new IssueResponseCache(
+        stringRedisTemplate, new ObjectMapper(), new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(issueResponseCache, "enabled", false);
+    issueResponseCache.init();
+    IssueFetchCoordinator issueFetchCoordinator = new IssueFetchCoordinator(
+        stringRedisTemplate, blockingTaskExecutor, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(issueFetchCoordinator, "leaseMillis", 10_000L);
+    issueFetchCoordinator.init();
+
+    issueHelperService = new IssueHelperService(issueHelperRepository,
+        githubApiService, blockingTaskExecutor, issueResponseCache, issueFetchCoordinator);
+    ReflectionTestUtils.setField(issueHelperService, "batchRepositoryConcurrency", 2);
+    ReflectionTestUtils.setField(issueHelperService, "batchPerRepositoryConcurrency", 4);
+  }
+
+  private CustomUserDetails customUserDetails() {
+    return new CustomUserDetails(Member.builder().memberId(UUID.randomUUID()).username("testUser").build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    blockingTaskExecutor.shutdown();
+  }
+
+  @Test
+  void reportsErrorsPerItemWithoutFailingTheBatch() {
+    IssueBatchRequest request = IssueBatchRequest.builder()
+        .issueUrls(List.of(OK_URL, API_ERROR_URL, UNEXPECTED_ERROR_URL))
+        .build();
+    CustomUserDetails customUserDetails = customUserDetails();
+
+    Map<String, IssueBatchItemResponse> results = issueHelperService
+        .processIssueHelperBatch(customUserDetails, request)
+        .collectList()
+        .block()
+        .stream()
+        .collect(Collectors.toMap(IssueBatchItemResponse::issueUrl, Function.identity()));
+
+    assertThat(results).containsOnlyKeys(OK_URL, API_ERROR_URL, UNEXPECTED_ERROR_URL);
+
+    IssueBatchItemResponse ok = results.get(OK_URL);
+    assertThat(ok.branchName()).endsWith("_#1_정상_이슈");
+    assertThat(ok.errorCode()).isNull();
+
+    IssueBatchItemResponse apiError = results.get(API_ERROR_URL);
+    assertThat(apiError.branchName()).isNull();
+    assertThat(apiError.errorCode()).isEqualTo(ErrorCode.GITHUB_TOKEN_REQUIRED.name());
+    assertThat(apiError.errorMessage()).isEqualTo(ErrorCode.GITHUB_TOKEN_REQUIRED.getMessage());
+
+    // 예상하지 못한 오류는 내부 메시지 대신 공통 오류 코드로 반환
+    IssueBatchItemResponse unexpectedError = results.get(UNEXPECTED_ERROR_URL);
+    assertThat(unexpectedError.errorCode()).isEqualTo(ErrorCode.GITHUB_ISSUE_PROCESSING_ERROR.name());
+    assertThat(unexpectedError.errorMessage()).isEqualTo(ErrorCode.GITHUB_ISSUE_PROCESSING_ERROR.getMessage());
+
+    // 토큰은 일괄 처리 요청당 1회만 조회
+    verify(githubApiService, times(1)).resolveToken(any(), any());
+  }
+
+  @Test
+  void returnsExistingRowWhenSameUrlIsSavedConcurrently() {
+    IssueHelper existing = IssueHelper.builder()
+        .issueUrl(CONCURRENTLY_SAVED_URL)
+        .branchName("20250101_#4_먼저_저장된_이슈")
+        .commitMessage("먼저 저장된 이슈 : feat : {변경 사항에 대한 설명} " + CONCURRENTLY_SAVED_URL)
+        .build();
+    AtomicBoolean savedByOther = new AtomicBoolean();
+    when(githubApiService.fetchIssueAsync(CONCURRENTLY_SAVED_URL, TOKEN)).thenReturn(CompletableFuture.completedFuture(
+        new GithubIssueApiResponse("[기능개선] 동시 저장 이슈", CONCURRENTLY_SAVED_URL)));
+    when(issueHelperRepository.findByIssueUrl(CONCURRENTLY_SAVED_URL))
+        .thenAnswer(invocation -> savedByOther.get() ? existing : null);
+    when(issueHelperRepository.save(argThat(issueHelper -> CONCURRENTLY_SAVED_URL.equals(issueHelper.getIssueUrl()))))
+        .thenAnswer(invocation -> {
+          // 조회 이후 다른 노드가 먼저 저장하여 유니크 제약 위반
+          savedByOther.set(true);
+          throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+        });
+
+    IssueResponse response = issueHelperService.processIssueHelperAsync(customUserDetails(),
+        IssueRequest.builder().issueUrl(CONCURRENTLY_SAVED_URL).githubToken(TOKEN).build()).join();
+
+    assertThat(response.branchName()).isEqualTo(existing.getBranchName());
+    assertThat(response.commitMessage()).isEqualTo(existing.getCommitMessage());
+  }
+}
@@ -0,0 +1,90 @@
+package com.chuseok22.lab.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chuseok22.lab.global.exception.CustomException;
+import com.chuseok22.lab.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 블로킹 작업 대기열이 가득 차면 대기하지 않고 SERVER_BUSY(503)로 거절하는지 검증
+ */
+class BlockingTaskExecutorTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private BlockingTaskExecutor blockingTaskExecutor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    blockingTaskExecutor = new BlockingTaskExecutor(meterRegistry);
+    ReflectionTestUtils.setField(blockingTaskExecutor, "poolSize", 1);
+    ReflectionTestUtils.setField(blockingTaskExecutor, "queueCapacity", 1);
+    blockingTaskExecutor.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    blockingTaskExecutor.shutdown();
+  }
+
+  @Test
+  void rejectsWithServerBusyWhenQueueIsFull() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    // 스레드 1개 점유 + 대기열 1개 채움
+    CompletableFuture<String> running = blockingTaskExecutor.supplyAsync(() -> {
+      started.countDown();
+      await(release);
+      return "running";
+    });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<String> queued = blockingTaskExecutor.supplyAsync(() -> "queued");
+    assertThat(meterRegistry.get("async.blocking.queue.depth").gauge().value()).isEqualTo(1.0);
+
+    // supplyAsync 거절
+    CompletableFuture<String> rejected = blockingTaskExecutor.supplyAsync(() -> "rejected");
+    assertThat(rejected).isCompletedExceptionally();
+    assertThat(errorCode(rejected)).isEqualTo(ErrorCode.SERVER_BUSY);
+
+    // thenApplyAsync 단계 거절
+    CompletableFuture<String> rejectedStage = CompletableFuture.completedFuture("value")
+        .thenApplyAsync(value -> value, blockingTaskExecutor.executor());
+    assertThat(errorCode(rejectedStage)).isEqualTo(ErrorCode.SERVER_BUSY);
+    assertThat(meterRegistry.get("async.blocking.rejected").counter().count()).isEqualTo(2.0);
+
+    release.countDown();
+    assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+  }
+
+  private static ErrorCode errorCode(CompletableFuture<?> future) {
+    try {
+      future.get(5, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof CustomException customException) {
+        return customException.getErrorCode();
+      }
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+    return null;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
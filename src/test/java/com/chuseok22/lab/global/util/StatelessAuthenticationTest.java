@@ -0,0 +1,121 @@
+package com.chuseok22.lab.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.chuseok22.lab.domain.auth.dto.CustomUserDetails;
+import com.chuseok22.lab.domain.auth.service.CustomUserDetailsService;
+import com.chuseok22.lab.domain.auth.service.MemberDetailsCache;
+import com.chuseok22.lab.domain.auth.service.TokenRejectionMonitor;
+import com.chuseok22.lab.domain.member.domain.Member;
+import com.chuseok22.lab.domain.member.repository.MemberRepository;
+import com.chuseok22.lab.domain.member.vo.Role;
+import com.chuseok22.lab.global.config.JwtKeyRingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 토큰 클레임 기반 인증(stateless) 모드 on/off 별 요청당 회원 DB 조회 횟수
+ * 처리량 비교는 JwtUtilBenchmark(getAuthentication, statelessAuthEnabled) 에서 측정합니다.
+ */
+class StatelessAuthenticationTest {
+
+  private static final int REQUESTS = 100;
+
+  private final AtomicLong dbQueries = new AtomicLong();
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    member = Member.builder()
+        .memberId(UUID.randomUUID())
+        .username("benchmarkUser")
+        .password("encodedPassword")
+        .nickname("benchmarkNickname")
+        .role(Role.ROLE_USER)
+        .build();
+  }
+
+  @Test
+  void statefulModeQueriesMemberPerRequest() {
+    assertThat(queriesPerRequest(false)).isEqualTo(1.0);
+  }
+
+  @Test
+  void statelessModeSkipsMemberQuery() {
+    assertThat(queriesPerRequest(true)).isZero();
+  }
+
+  @Test
+  void statelessPrincipalLoadsMemberLazily() {
+    JwtUtil jwtUtil = createJwtUtil(true);
+    String token = jwtUtil.createAccessToken(new CustomUserDetails(member));
+    dbQueries.set(0);
+
+    CustomUserDetails principal = (CustomUserDetails) jwtUtil.getAuthentication(token).getPrincipal();
+    assertThat(principal.getUsername()).isEqualTo(member.getUsername());
+    assertThat(principal.getMemberId()).isEqualTo(member.getMemberId().toString());
+    assertThat(principal.getAuthorities()).extracting("authority").containsExactly(Role.ROLE_USER.name());
+    assertThat(dbQueries.get()).isZero();
+
+    principal.getMember();
+    principal.getMember();
+    assertThat(dbQueries.get()).isEqualTo(1);
+  }
+
+  private double queriesPerRequest(boolean stateless) {
+    JwtUtil jwtUtil = createJwtUtil(stateless);
+    String token = jwtUtil.createAccessToken(new CustomUserDetails(member));
+
+    dbQueries.set(0);
+    for (int i = 0; i < REQUESTS; i++) {
+      authenticate(jwtUtil, token);
+    }
+    return (double) dbQueries.get() / REQUESTS;
+  }
+
+  private void authenticate(JwtUtil jwtUtil, String token) {
+    Authentication authentication = jwtUtil.getAuthentication(token);
+    ((CustomUserDetails) authentication.getPrincipal()).getUsername();
+  }
+
+  private JwtUtil createJwtUtil(boolean stateless) {
+    MemberRepository memberRepository = mock(MemberRepository.class, withSettings().stubOnly());
+    when(memberRepository.findByUsername(anyString())).thenAnswer(invocation -> {
+      dbQueries.incrementAndGet();
+      return Optional.of(member);
+    });
+    when(memberRepository.findById(any(UUID.class))).thenAnswer(invocation -> {
+      dbQueries.incrementAndGet();
+      return Optional.of(member);
+    });
+
+    JwtKeyRing jwtKeyRing = new JwtKeyRing(new JwtKeyRingProperties(), new ObjectMapper());
+    ReflectionTestUtils.setField(jwtKeyRing, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+    jwtKeyRing.init();
+
+    JwtUtil jwtUtil = new JwtUtil(
+        new CustomUserDetailsService(memberRepository, new MemberDetailsCache(null, null, null)), // 회원 캐시 비활성화
+        jwtKeyRing,
+        new TokenRejectionMonitor(new SimpleMeterRegistry(), new LogThrottle()));
+    ReflectionTestUtils.setField(jwtUtil, "accessTokenExpTime", 3_600_000L);
+    ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpTime", 86_400_000L);
+    ReflectionTestUtils.setField(jwtUtil, "issuer", "benchmark");
+    ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 10_000L);
+    ReflectionTestUtils.setField(jwtUtil, "statelessAuthEnabled", stateless);
+    jwtUtil.init();
+    return jwtUtil;
+  }
+}